@@ -19,6 +19,15 @@ CREATE TABLE `boards` (
                           PRIMARY KEY (`id`)
 );
 
+-- 2-1. 게시판 집계 (게시판별 게시글 수 / 마지막 작성 시각 / 목록 변경 시각, 게시판과 1:1)
+CREATE TABLE `board_stats` (
+                               `board_id`     BIGINT    NOT NULL,
+                               `post_count`   BIGINT    NOT NULL DEFAULT 0,
+                               `last_post_at` TIMESTAMP NULL,
+                               `changed_at`   TIMESTAMP NULL, -- 게시글 작성/수정/삭제, 댓글 작성/삭제 시 갱신 (목록 ETag)
+                               PRIMARY KEY (`board_id`)
+);
+
 -- 3. 게시글 테이블
 CREATE TABLE `posts` (
                          `id`             BIGINT       NOT NULL AUTO_INCREMENT,
@@ -26,17 +35,50 @@ CREATE TABLE `posts` (
                          `board_id`       BIGINT       NOT NULL,
                          `post_title`     VARCHAR(150) NOT NULL,
                          `content`        TEXT         NOT NULL,
-                         `view_count`     INT          NOT NULL DEFAULT 0,
-                         `comments_count` INT          NOT NULL DEFAULT 0,
+                         `excerpt`        VARCHAR(100) NULL, -- 목록 표시용 본문 앞부분
                          `post_type`      SMALLINT     DEFAULT 0,
                          `fixed`          SMALLINT     DEFAULT 0,
                          `created_at`     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
                          `updated_at`     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
                          PRIMARY KEY (`id`),
+                         KEY `idx_posts_board_fixed_id` (`board_id`, `fixed`, `id`), -- 게시판 목록 키셋 페이징
                          FOREIGN KEY (`user_id`) REFERENCES `users`(`id`),
                          FOREIGN KEY (`board_id`) REFERENCES `boards`(`id`)
 );
 
+-- 3-1. 게시글 카운터 (자주 바뀌는 조회수/좋아요/댓글 수를 posts와 분리, 게시글과 1:1)
+CREATE TABLE `post_stats` (
+                              `post_id`  BIGINT NOT NULL,
+                              `views`    INT    NOT NULL DEFAULT 0,
+                              `likes`    INT    NOT NULL DEFAULT 0,
+                              `comments` INT    NOT NULL DEFAULT 0,
+                              PRIMARY KEY (`post_id`),
+                              KEY `idx_post_stats_views_post_id` (`views`, `post_id`),
+                              FOREIGN KEY (`post_id`) REFERENCES `posts`(`id`)
+);
+
+-- 3-2. 게시글 분산 카운터 (좋아요/댓글이 몰리는 게시글의 증감분, 주기적으로 post_stats에 합산 후 삭제)
+CREATE TABLE `post_counter_shards` (
+                                       `id`      BIGINT      NOT NULL AUTO_INCREMENT,
+                                       `post_id` BIGINT      NOT NULL,
+                                       `counter` VARCHAR(20) NOT NULL, -- LIKES / COMMENTS
+                                       `shard`   INT         NOT NULL,
+                                       `amount`  BIGINT      NOT NULL DEFAULT 0,
+                                       PRIMARY KEY (`id`),
+                                       UNIQUE KEY (`post_id`, `counter`, `shard`)
+);
+
+-- 3-3. 게시글 좋아요
+CREATE TABLE `post_likes` (
+                              `id`         BIGINT    NOT NULL AUTO_INCREMENT,
+                              `post_id`    BIGINT    NOT NULL,
+                              `user_id`    BIGINT    NOT NULL,
+                              `created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                              PRIMARY KEY (`id`),
+                              UNIQUE KEY (`post_id`, `user_id`),
+                              KEY `idx_post_likes_user_id_id` (`user_id`, `id`) -- 회원별 좋아요 조회 / 변경 확인
+);
+
 -- 4. 댓글 테이블
 CREATE TABLE `comments` (
                             `id`         BIGINT       NOT NULL AUTO_INCREMENT,
@@ -46,6 +88,7 @@ CREATE TABLE `comments` (
                             `created_at` TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
                             `updated_at` TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
                             PRIMARY KEY (`id`),
+                            KEY `idx_comments_post_id_id` (`post_id`, `id`), -- 게시글 댓글 키셋 페이징
                             FOREIGN KEY (`user_id`) REFERENCES `users`(`id`),
                             FOREIGN KEY (`post_id`) REFERENCES `posts`(`id`)
 );
@@ -92,6 +135,24 @@ CREATE TABLE `messages` (
                             `sender_delete_state`   SMALLINT  NOT NULL DEFAULT 0,
                             `receiver_delete_state` SMALLINT  NOT NULL DEFAULT 0,
                             PRIMARY KEY (`id`),
+                            KEY `idx_messages_receiver_id_state_id` (`receiver_id`, `receiver_delete_state`, `id`), -- 받은 쪽지함
+                            KEY `idx_messages_sender_id_state_id` (`sender_id`, `sender_delete_state`, `id`),       -- 보낸 쪽지함
                             FOREIGN KEY (`sender_id`) REFERENCES `users`(`id`),
                             FOREIGN KEY (`receiver_id`) REFERENCES `users`(`id`)
-);
\ No newline at end of file
+);
+
+-- 8-1. 회원별 쪽지함 개수 (안 읽은 쪽지 / 받은 쪽지함 / 보낸 쪽지함 / 휴지통, 회원과 1:1)
+CREATE TABLE `user_message_counters` (
+                                         `user_id` BIGINT NOT NULL,
+                                         `unread`  BIGINT NOT NULL DEFAULT 0,
+                                         `inbox`   BIGINT NOT NULL DEFAULT 0,
+                                         `sent`    BIGINT NOT NULL DEFAULT 0,
+                                         `trash`   BIGINT NOT NULL DEFAULT 0,
+                                         PRIMARY KEY (`user_id`)
+);
+
+-- [수동 정리] 예전 posts 카운터 컬럼
+-- 기존 DB의 posts.view_count / likes_count / comments_count 값은 기동 시 post_stats로 복사되고(PostStatsMigration) 컬럼은 남겨 둔다
+-- post_stats 값을 확인하고 이전 버전으로 되돌릴 일이 없을 때 따로 실행
+-- ALTER TABLE `posts` DROP INDEX `idx_posts_view_count_id`;
+-- ALTER TABLE `posts` DROP COLUMN `view_count`, DROP COLUMN `likes_count`, DROP COLUMN `comments_count`;
\ No newline at end of file
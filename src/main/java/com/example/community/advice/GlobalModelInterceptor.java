@@ -0,0 +1,49 @@
+package com.example.community.advice;
+
+import com.example.community.service.BoardService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.ui.ModelMap;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 공통 모델 속성 (사이드바 게시판 목록)
+ *
+ * 뷰를 렌더링하는 요청에만 추가한다
+ * - JSON 응답(@ResponseBody, ResponseEntity)은 ModelAndView가 없으므로 건너뜀
+ * - redirect 응답도 건너뜀
+ * - 컨트롤러가 이미 넣은 값은 덮어쓰지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class GlobalModelInterceptor implements HandlerInterceptor {
+
+    private static final String REDIRECT_PREFIX = "redirect:";
+
+    private final BoardService boardService;
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response,
+                           Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null || isRedirect(modelAndView)) {
+            return;
+        }
+
+        ModelMap model = modelAndView.getModelMap();
+
+        if (!model.containsAttribute("boardList")) {
+            model.addAttribute("boardList", boardService.getList());
+        }
+        if (!model.containsAttribute("noticeBoardList")) {
+            model.addAttribute("noticeBoardList", boardService.getNoticeBoardList());
+        }
+    }
+
+    private boolean isRedirect(ModelAndView modelAndView) {
+        String viewName = modelAndView.getViewName();
+        return viewName != null && viewName.startsWith(REDIRECT_PREFIX);
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import com.example.community.domain.board.BoardDto;
 import com.example.community.domain.post.PostDto;
@@ -18,6 +19,7 @@ import com.example.community.domain.comment.CommentDto;
 import com.example.community.service.BoardService;
 import com.example.community.service.PostService;
 import com.example.community.service.CommentService;
+import com.example.community.service.PostDetailCache;
 import org.springframework.data.domain.Sort;
 import java.util.List;
 import java.util.Optional;
@@ -35,10 +37,13 @@ public class AdminController {
     private final BoardService boardService;
     private final PostService postService;
     private final CommentService commentService;
+    private final PostDetailCache postDetailCache;
 
     //관리자 대시보드 페이지
     @GetMapping("/dashboard")
-    public String dashboard(){
+    public String dashboard(Model model){
+        // 게시글 상세 캐시 통계 (게시물 관리 영역에 표시)
+        model.addAttribute("postDetailCacheStats", postDetailCache.getStats());
         return "admin/dashboard";
     }
 
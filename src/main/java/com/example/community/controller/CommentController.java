@@ -1,8 +1,10 @@
 package com.example.community.controller;
 
 import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.comment.CommentPage;
 import com.example.community.security.CustomUserDetails;
 import com.example.community.service.CommentService;
+import com.example.community.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,10 +14,15 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/posts/{postId}/comments")
@@ -90,13 +97,42 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
-    // 특정 게시글 모든 댓글 조회 (로그인 불필요 - 누구나 볼 수 있음)
+    // 특정 게시글 댓글 조회 (로그인 불필요 - 누구나 볼 수 있음)
+    // 키셋 페이징: after(마지막으로 받은 댓글 ID) 이후 limit개
+    // 조건부 GET: 댓글 ID/수정 시각/작성자와 전체 댓글 수가 같으면 304 (본문 직렬화/전송 생략)
     @GetMapping
-    public ResponseEntity<List<CommentDto>> readAll(
-            @PathVariable Long postId
+    public ResponseEntity<CommentPage> readAll(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit,
+            ServletWebRequest webRequest
     ) {
-        log.info("readAll postId = {}", postId);
-        return ResponseEntity.ok(commentService.getList(postId));
+        log.info("readAll postId = {}, after = {}, limit = {}", postId, after, limit);
+
+        CommentPage page = commentService.getPage(postId, after, limit);
+        if (ConditionalGet.checkNotModified(webRequest, etagOf(postId, after, page), lastModifiedOf(page))) {
+            return null;
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    // 댓글 페이지 검증값 (닉네임 변경도 반영되도록 작성자 포함)
+    private String etagOf(Long postId, Long after, CommentPage page) {
+        List<Object> parts = new ArrayList<>(List.of("comments", postId, String.valueOf(after),
+                page.getTotalCount(), String.valueOf(page.getNextAfter())));
+        for (CommentDto comment : page.getContent()) {
+            parts.add(comment.getId() + ":" + comment.getUpdatedAt() + ":" + comment.getWriter());
+        }
+        return ConditionalGet.weakEtag(parts.toArray());
+    }
+
+    // 페이지 안에서 가장 늦은 작성/수정 시각
+    private LocalDateTime lastModifiedOf(CommentPage page) {
+        return page.getContent().stream()
+                .map(comment -> comment.getUpdatedAt() != null ? comment.getUpdatedAt() : comment.getCreatedAt())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
     }
 
     // 검증 예외 처리
@@ -1,9 +1,16 @@
 package com.example.community.controller;
 
 import com.example.community.domain.board.BoardDto;
+import com.example.community.domain.post.KeysetPage;
+import com.example.community.domain.post.Pagination;
+import com.example.community.domain.post.PostCursor;
 import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostSummary;
+import com.example.community.security.CustomUserDetails;
 import com.example.community.service.BoardService;
 import com.example.community.service.PostService;
+import com.example.community.web.PageAssembler;
+import com.example.community.web.PageFragment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -11,13 +18,13 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 메인 페이지 컨트롤러
@@ -29,6 +36,7 @@ public class MainController {
 
     private final PostService postService;
     private final BoardService boardService;
+    private final PageAssembler pageAssembler;
 
     /**
      * 메인 페이지 조회
@@ -41,6 +49,8 @@ public class MainController {
      * @param size 페이지 크기 (기본값: 15)
      * @param searchType 검색 타입 (title, content, writer, titleContent)
      * @param keyword 검색 키워드
+     * @param after 다음 페이지 커서 (키셋 페이징)
+     * @param before 이전 페이지 커서 (키셋 페이징)
      * @param model 메인 화면에 필요한 데이터 전달
      * @return index 템플릿
      */
@@ -50,76 +60,106 @@ public class MainController {
             @RequestParam(defaultValue = "15") int size,
             @RequestParam(defaultValue = "") String searchType,
             @RequestParam(defaultValue = "") String keyword,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "") String before,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
             Model model) {
 
-        log.info("index - page={}, size={}, searchType={}, keyword={}", page, size, searchType, keyword);
-
-        // 1) 전체 게시판 조회
-        List<BoardDto> allBoards = boardService.getList();
+        log.info("index - page={}, size={}, searchType={}, keyword={}, after={}, before={}",
+                page, size, searchType, keyword, after, before);
 
+        // 1) 게시판 목록 조회 (게시판 스냅샷)
         // 2) 공지 카테고리 / 일반 게시판 분리
-        List<BoardDto> noticeBoardList = allBoards.stream()
-                .filter(b -> "NOTICE".equals(b.getCategory()))
-                .toList();
-
-        List<BoardDto> boardList = allBoards.stream()
-                .filter(b -> b.getCategory() == null || !"NOTICE".equals(b.getCategory()))
-                .toList();
+        List<BoardDto> noticeBoardList = boardService.getNoticeBoardList();
+        List<BoardDto> boardList = boardService.getGeneralBoardList();
 
         model.addAttribute("noticeBoardList", noticeBoardList);
         model.addAttribute("boardList", boardList);
 
         // 3) NOTICE 카테고리의 첫 번째 게시판 선택
-        // final 변수로 선언
-        final Long noticeBoardId;
-        if (!noticeBoardList.isEmpty()) {
-            noticeBoardId = noticeBoardList.get(0).getId();
-            Pageable noticePageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id"));
-            var noticePage = postService.getList(noticeBoardId, noticePageable);
-            model.addAttribute("noticeList", noticePage.getContent());
+        final Long noticeBoardId = noticeBoardList.isEmpty() ? null : noticeBoardList.get(0).getId();
+
+        // 서로 독립적인 조회는 동시에 시작 (공지 / 인기글), 게시글 목록은 그동안 요청 스레드에서 조회
+        PageAssembler.Scope fragments = pageAssembler.open();
+        PageFragment<FeedPage> feed = fragments.main(
+                () -> loadFeed(page, size, searchType, keyword, after, before, noticeBoardId));
+        PageFragment<List<PostDto>> noticeList = noticeBoardId == null
+                ? PageFragment.of(List.of())
+                : fragments.optional("noticeList", () -> loadNoticeList(noticeBoardId), List.of());
+        PageFragment<List<PostDto>> popularPosts = fragments.optional("popularPosts",
+                () -> postService.getPopularPosts(PageRequest.of(0, 10)).getContent(), List.of());
+
+        // 4) 게시글 목록 조회 (검색 또는 전체) - 공지사항 제외!
+        FeedPage feedPage = feed.get();
+
+        if (noticeBoardId != null) {
+            List<PostDto> notices = noticeList.get();
+            model.addAttribute("noticeList", notices);
             log.info("공지사항 로드 성공: boardId={}, title={}, postCount={}",
-                    noticeBoardId, noticeBoardList.get(0).getTitle(), noticePage.getContent().size());
+                    noticeBoardId, noticeBoardList.get(0).getTitle(), notices.size());
         } else {
             log.warn("NOTICE 카테고리의 게시판이 없습니다");
             model.addAttribute("noticeList", List.of());
-            noticeBoardId = null;
         }
 
-        // 4) 게시글 목록 조회 (검색 또는 전체) - 공지사항 제외!
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "viewCount"));
-        Page<PostDto> postPage;
+        model.addAttribute("postPage", feedPage.postPage());
+        model.addAttribute("pagination", feedPage.pagination());
+        model.addAttribute("searchType", searchType);
+        model.addAttribute("keyword", keyword);
+
+        // 로그인 사용자가 좋아요한 게시글 표시 (목록 크기와 상관없이 쿼리 1회)
+        model.addAttribute("likedPostIds", postService.getLikedPostIds(
+                userDetails == null ? null : userDetails.getId(),
+                feedPage.postPage().getContent().stream().map(PostDto::getId).toList()));
+
+        // 5) 인기 게시글 TOP 10 (오른쪽 사이드바용)
+        model.addAttribute("popularPosts", popularPosts.get());
+
+        return "index";
+    }
+
+    /**
+     * 메인 게시글 목록 + 페이지 정보
+     */
+    private record FeedPage(Page<PostDto> postPage, Pagination pagination) {
+    }
+
+    private FeedPage loadFeed(int page, int size, String searchType, String keyword,
+                              String after, String before, Long noticeBoardId) {
+        // 키셋 페이징과 같은 순서가 되도록 id를 보조 정렬 키로 사용
+        Pageable pageable = PageRequest.of(page - 1, size, PostSummary.BY_VIEWS);
 
         if (keyword != null && !keyword.trim().isEmpty()) {
             // 검색
-            postPage = postService.searchPosts(searchType, keyword, pageable);
+            Page<PostDto> postPage = postService.searchPosts(searchType, keyword, pageable);
             log.info("검색 결과: {} 건", postPage.getTotalElements());
-        } else {
-            // 전체 목록 조회
-            postPage = postService.getAllPosts(pageable);
-
-            // final noticeBoardId
-            if (noticeBoardId != null) {
-                List<PostDto> filteredContent = postPage.getContent().stream()
-                        .filter(post -> !post.getBoardId().equals(noticeBoardId))
-                        .collect(Collectors.toList());
-
-                postPage = new PageImpl<>(filteredContent, pageable, postPage.getTotalElements());
-                log.info("공지사항 게시판 제외: 원본 {} 건 → 필터링 후 {} 건",
-                        postPage.getContent().size() + filteredContent.size(),
-                        filteredContent.size());
-            }
+            return new FeedPage(postPage, Pagination.of(pageable, postPage.getTotalElements(), postPage.getTotalPages()));
         }
 
-        model.addAttribute("postPage", postPage);
-        model.addAttribute("searchType", searchType);
-        model.addAttribute("keyword", keyword);
+        if (!after.isBlank() || !before.isBlank()) {
+            // 커서가 있으면 키셋 페이징 (OFFSET 없이 조회) - 공지사항은 쿼리에서 제외
+            KeysetPage<PostDto> keysetPage = postService.getFeedByCursor(after, before, size, noticeBoardId);
 
-        // 5) 인기 게시글 TOP 10 (오른쪽 사이드바용)
-        Pageable popularPageable = PageRequest.of(0, 10);
-        Page<PostDto> popularPosts = postService.getPopularPosts(popularPageable);
-        model.addAttribute("popularPosts", popularPosts.getContent());
+            return new FeedPage(new PageImpl<>(keysetPage.getContent(), PageRequest.of(0, size), keysetPage.getContent().size()),
+                    Pagination.ofCursor(pageable, keysetPage));
+        }
 
-        return "index";
+        // 전체 목록 조회 - 공지사항은 쿼리에서 제외
+        Page<PostDto> postPage = postService.getFeed(pageable, noticeBoardId);
+
+        // 마지막 행 기준 다음 페이지 커서 (OFFSET_PAGE_LIMIT 이후 이동용)
+        String nextCursor = postPage.hasNext()
+                ? PostCursor.ofFeed(postPage.getContent().get(postPage.getContent().size() - 1)).encode()
+                : null;
+        Pagination pagination = Pagination.of(pageable, postPage.getTotalElements(), postPage.getTotalPages(), nextCursor);
+
+        return new FeedPage(postPage, pagination);
+    }
+
+    // 공지 게시판 최신 5개
+    private List<PostDto> loadNoticeList(Long noticeBoardId) {
+        Pageable noticePageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id"));
+        return postService.getList(noticeBoardId, noticePageable).getContent();
     }
 
     /**
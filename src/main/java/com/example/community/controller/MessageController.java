@@ -1,8 +1,10 @@
 package com.example.community.controller;
 
+import com.example.community.domain.message.BulkOutcome;
 import com.example.community.domain.message.MessageDto;
 import com.example.community.security.CustomUserDetails;
 import com.example.community.service.MessageService;
+import com.example.community.service.UnreadMessageNotifier;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +12,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,6 +21,8 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -30,6 +36,7 @@ import java.util.Map;
 public class MessageController {
 
     private final MessageService messageService;
+    private final UnreadMessageNotifier unreadMessageNotifier;
 
     /**
      * 현재 로그인한 사용자의 ID를 가져오는 공통 메서드
@@ -42,6 +49,17 @@ public class MessageController {
         return null;
     }
 
+    /**
+     * 현재 로그인한 사용자의 회원 ID (비로그인이면 null)
+     */
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+
     /**
      * 전체/받은/보낸/휴지통 쪽지함 화면 조회
      */
@@ -92,10 +110,26 @@ public class MessageController {
     @GetMapping("/api/unread-count")
     @ResponseBody
     public ResponseEntity<Long> getUnreadCount() {
+        Long userId = getCurrentUserId();
+        if (userId == null) return ResponseEntity.ok(0L);
+
+        return ResponseEntity.ok(messageService.getUnreadCount(userId));
+    }
+
+    /**
+     * 읽지 않은 쪽지 수 실시간 알림 (SSE)
+     * 연결 직후와 수가 바뀔 때마다 unread-count 이벤트, 새 쪽지가 오면 message 이벤트를 보낸다
+     */
+    @GetMapping(value = "/api/unread-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamUnreadCount() {
         String username = getCurrentUsername();
-        if (username == null) return ResponseEntity.ok(0L);
+        Long userId = getCurrentUserId();
+        if (username == null || userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
 
-        return ResponseEntity.ok(messageService.getUnreadCount(username));
+        return unreadMessageNotifier.subscribe(username, () -> messageService.getUnreadCount(userId));
     }
 
     /**
@@ -156,11 +190,11 @@ public class MessageController {
 
     /**
      * 선택 삭제 - 휴지통 이동 (Bulk API)
-     * 타입 변환 적용
+     * 타입 변환 적용, 한 트랜잭션에서 일괄 UPDATE 후 쪽지 ID별 결과 반환
      */
     @PostMapping("/api/trash/bulk")
     @ResponseBody
-    public ResponseEntity<Void> moveToTrashBulk(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<Map<Long, BulkOutcome>> moveToTrashBulk(@RequestBody Map<String, Object> request) {
         String username = getCurrentUsername();
         String userType = (String) request.getOrDefault("userType", "received");
 
@@ -169,19 +203,31 @@ public class MessageController {
 
         log.info("moveToTrashBulk - username={}, userType={}, ids={}", username, userType, ids);
 
-        if (!ids.isEmpty()) {
-            ids.forEach(id -> messageService.moveToTrash(id, username, userType));
-        }
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(messageService.moveToTrashBulk(ids, username, userType));
+    }
+
+    /**
+     * 선택 복구 (Bulk API)
+     */
+    @PostMapping("/api/restore/bulk")
+    @ResponseBody
+    public ResponseEntity<Map<Long, BulkOutcome>> restoreBulk(@RequestBody Map<String, Object> request) {
+        String username = getCurrentUsername();
+        String userType = (String) request.getOrDefault("userType", "received");
+        List<Long> ids = convertToLongList(request.get("ids"));
+
+        log.info("restoreBulk - username={}, userType={}, ids={}", username, userType, ids);
+
+        return ResponseEntity.ok(messageService.restoreBulk(ids, username, userType));
     }
 
     /**
      * 선택 삭제 - 영구 삭제 (Bulk API)
-     * 타입 변환 적용
+     * 타입 변환 적용, 한 트랜잭션에서 일괄 UPDATE/DELETE 후 쪽지 ID별 결과 반환
      */
     @PostMapping("/api/delete/bulk")
     @ResponseBody
-    public ResponseEntity<Void> deleteBulk(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<Map<Long, BulkOutcome>> deleteBulk(@RequestBody Map<String, Object> request) {
         String username = getCurrentUsername();
         String userType = (String) request.getOrDefault("userType", "received");
 
@@ -190,10 +236,7 @@ public class MessageController {
 
         log.info("deleteBulk - username={}, userType={}, ids={}", username, userType, ids);
 
-        if (!ids.isEmpty()) {
-            ids.forEach(id -> messageService.permanentDelete(id, username, userType));
-        }
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(messageService.permanentDeleteBulk(ids, username, userType));
     }
 
     /**
@@ -76,7 +76,10 @@ public class MypageController {
         model.addAttribute("recentPosts", recent);
 
         // 내가 작성한 게시글 최신 10개
-        model.addAttribute("recentPosts", mypageService.getRecentPosts(userId, 10));
+        List<PostDto> recentPosts = mypageService.getRecentPosts(userId, 10);
+        model.addAttribute("recentPosts", recentPosts);
+        model.addAttribute("likedPostIds", postService.getLikedPostIds(userId,
+                recentPosts.stream().map(PostDto::getId).toList()));
 
         // 내가 작성한 댓글 최신 10개
         model.addAttribute("recentComments", mypageService.getRecentComments(userId, 10));
@@ -277,6 +280,9 @@ public class MypageController {
         model.addAttribute("postPage", postPage);
         model.addAttribute("page", page);
         model.addAttribute("size", size);
+        // 좋아요한 게시글 표시 (쿼리 1회)
+        model.addAttribute("likedPostIds", postService.getLikedPostIds(userId,
+                postPage.getContent().stream().map(PostDto::getId).toList()));
 
         log.info("내 게시글 목록 조회 성공: userId={}, totalElements={}", userId, postPage.getTotalElements());
 
@@ -2,15 +2,22 @@ package com.example.community.controller;
 
 import com.example.community.domain.board.BoardDto;
 import com.example.community.domain.post.Criteria;
+import com.example.community.domain.post.KeysetPage;
 import com.example.community.domain.post.Pagination;
+import com.example.community.domain.post.PostCursor;
 import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostVersion;
 import com.example.community.domain.post.ResultDto;
 import com.example.community.security.CustomUserDetails;
 import com.example.community.service.BoardService;
 import com.example.community.service.PostService;
+import com.example.community.web.ConditionalGet;
+import com.example.community.web.PageAssembler;
+import com.example.community.web.PageFragment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -19,10 +26,13 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Controller
 @RequestMapping("/board/{boardId}/post")
@@ -31,36 +41,59 @@ import java.util.Map;
 public class PostController {
     private final PostService postService;
     private final BoardService boardService;
+    private final PageAssembler pageAssembler;
 
     // 게시글 목록
     @GetMapping({"", "/list" })
-    public String list(@PathVariable Long boardId, Criteria criteria, Model model) {
+    public String list(@PathVariable Long boardId, Criteria criteria, Model model,
+                       @AuthenticationPrincipal CustomUserDetails userDetails,
+                       ServletWebRequest webRequest) {
         log.info("List boardId = {}, list={}", boardId, criteria);
 
         // 1) 전체 게시판 조회
         List<BoardDto> allBoards = boardService.getList();
 
         // 2) 공지 카테고리 / 일반 게시판 분리
-        List<BoardDto> noticeBoardList = allBoards.stream()
-                .filter(b -> "NOTICE".equals(b.getCategory()))
-                .toList();
-
-        List<BoardDto> boardList = allBoards.stream()
-                .filter(b -> b.getCategory() == null || !"NOTICE".equals(b.getCategory()))
-                .toList();
+        List<BoardDto> noticeBoardList = boardService.getNoticeBoardList();
+        List<BoardDto> boardList = boardService.getGeneralBoardList();
+
+        // 조건부 GET: 게시판(+ 공지 게시판) 변경 시각(게시글/댓글 변경), 게시판 목록 세대(사이드바/게시판 이름)와
+        // 로그인 사용자가 같으면 304 (목록 조회/렌더링 생략)
+        // 조회수/인기글 등 수시로 바뀌는 값은 검증값에 넣지 않는다 (약한 ETag)
+        Optional<LocalDateTime> changedAt = postService.getBoardChangedAt(boardId);
+        if (changedAt.isPresent()) {
+            LocalDateTime noticeChangedAt = noticeBoardList.isEmpty()
+                    ? null
+                    : postService.getBoardChangedAt(noticeBoardList.get(0).getId()).orElse(null);
+            String etag = ConditionalGet.weakEtag("board", boardId, changedAt.get(), noticeChangedAt,
+                    boardService.getCatalogGeneration(), viewerOf(userDetails), postService.getLikeStamp(userIdOf(userDetails)));
+            if (ConditionalGet.checkNotModified(webRequest, etag, latest(changedAt.get(), noticeChangedAt))) {
+                return null;
+            }
+        }
 
         model.addAttribute("noticeBoardList", noticeBoardList);
         model.addAttribute("boardList", boardList);
 
+        Pageable pageable = PageRequest.of(criteria.getPage() - 1,
+                criteria.getSize(), Sort.by(Sort.Direction.DESC, "fixed")
+                        .and(Sort.by(Sort.Direction.DESC, "id")));
+
+        log.info("pageable = {}", pageable);
+
+        // 서로 독립적인 조회는 동시에 시작 (공지 / 인기글), 게시글 목록은 그동안 요청 스레드에서 조회
+        PageAssembler.Scope page = pageAssembler.open();
+        PageFragment<PostListPage> listPage = page.main(() -> loadListPage(boardId, criteria, pageable));
+        PageFragment<List<PostDto>> noticeList = noticeBoardList.isEmpty()
+                ? PageFragment.of(List.of())
+                : page.optional("noticeList", () -> loadNoticeList(noticeBoardList.get(0).getId()), List.of());
+        PageFragment<List<PostDto>> popularPosts = page.optional("popularPosts",
+                this::loadPopularPosts, List.of());
+
+        PostListPage postList = listPage.get();
+
         // 3) 메인 가운데 공지 영역 (최신 5개)
-        if (!noticeBoardList.isEmpty()) {
-            Long noticeBoardId = noticeBoardList.get(0).getId();
-            Pageable noticePageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id"));
-            var noticePage = postService.getList(noticeBoardId, noticePageable);
-            model.addAttribute("noticeList", noticePage.getContent());
-        } else {
-            model.addAttribute("noticeList", List.of());
-        }
+        model.addAttribute("noticeList", noticeList.get());
 
         // 게시판 제목 추가 (현재 게시판명 표시용)
         BoardDto currentBoard = allBoards.stream()
@@ -79,35 +112,76 @@ public class PostController {
             model.addAttribute("boardCategory", null);
         }
 
-        Pageable pageable = PageRequest.of(criteria.getPage() - 1,
-                criteria.getSize(), Sort.by(Sort.Direction.DESC, "fixed")
-                        .and(Sort.by(Sort.Direction.DESC, "id")));
+        log.info("pagination = {}", postList.pagination());
 
-        log.info("pageable = {}", pageable);
+        model.addAttribute("boardId", boardId);
+        model.addAttribute("postPage", postList.postPage());
+        model.addAttribute("pagination", postList.pagination());
+        model.addAttribute("criteria", criteria);
+
+        // 4) 로그인 사용자가 좋아요한 게시글 표시 (목록 크기와 상관없이 쿼리 1회)
+        model.addAttribute("likedPostIds", postService.getLikedPostIds(
+                userDetails == null ? null : userDetails.getId(),
+                postList.postPage().getContent().stream().map(PostDto::getId).toList()));
+
+        // 5) 인기 게시글 TOP 10 (오른쪽 사이드바용)
+        model.addAttribute("popularPosts", popularPosts.get());
+
+        return "post/list";
+    }
 
-        Page<PostDto> postPage;
+    // 로그인 사용자 (화면의 수정/삭제 버튼, 좋아요 표시가 달라지므로 검증값에 포함)
+    private static String viewerOf(CustomUserDetails userDetails) {
+        return userDetails == null ? "anonymous" : userDetails.getId() + ":" + userDetails.getUser().getRole();
+    }
+
+    private static Long userIdOf(CustomUserDetails userDetails) {
+        return userDetails == null ? null : userDetails.getId();
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        return second == null || first.isAfter(second) ? first : second;
+    }
+
+    /**
+     * 게시판 게시글 목록 + 페이지 정보
+     */
+    private record PostListPage(Page<PostDto> postPage, Pagination pagination) {
+    }
+
+    private PostListPage loadListPage(Long boardId, Criteria criteria, Pageable pageable) {
         // 키워드가 있는지 확인
         if (criteria.getKeyword() != null && !criteria.getKeyword().trim().isEmpty()) {
-            postPage = postService.searchPostsInBoard(boardId, criteria.getSearchType(), criteria.getKeyword(), pageable);
-        } else {
-            postPage = postService.getList(boardId, pageable);
+            Page<PostDto> postPage = postService.searchPostsInBoard(boardId, criteria.getSearchType(), criteria.getKeyword(), pageable);
+            return new PostListPage(postPage, Pagination.of(pageable, postPage.getTotalElements(), postPage.getTotalPages()));
         }
 
-        Pagination pagination = Pagination.of( pageable, postPage.getTotalElements(), postPage.getTotalPages());
-
-        log.info("pagination = {}", pagination);
+        if (criteria.hasCursor()) {
+            // 커서가 있으면 키셋 페이징 (OFFSET 없이 조회)
+            KeysetPage<PostDto> keysetPage = postService.getListByCursor(
+                    boardId, criteria.getAfter(), criteria.getBefore(), criteria.getSize());
+            return new PostListPage(new PageImpl<>(keysetPage.getContent(), pageable, keysetPage.getContent().size()),
+                    Pagination.ofCursor(pageable, keysetPage));
+        }
 
-        model.addAttribute("boardId", boardId);
-        model.addAttribute("postPage", postPage);
-        model.addAttribute("pagination", pagination);
-        model.addAttribute("criteria", criteria);
+        Page<PostDto> postPage = postService.getList(boardId, pageable);
+        // 마지막 행 기준 다음 페이지 커서 (OFFSET_PAGE_LIMIT 이후 이동용)
+        String nextCursor = postPage.hasNext()
+                ? PostCursor.ofBoard(postPage.getContent().get(postPage.getContent().size() - 1)).encode()
+                : null;
+        return new PostListPage(postPage,
+                Pagination.of(pageable, postPage.getTotalElements(), postPage.getTotalPages(), nextCursor));
+    }
 
-        // 5) 인기 게시글 TOP 10 (오른쪽 사이드바용)
-        Pageable popularPageable = PageRequest.of(0, 10);
-        Page<PostDto> popularPosts = postService.getPopularPosts(popularPageable);
-        model.addAttribute("popularPosts", popularPosts.getContent());
+    // 공지 게시판 최신 5개
+    private List<PostDto> loadNoticeList(Long noticeBoardId) {
+        Pageable noticePageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id"));
+        return postService.getList(noticeBoardId, noticePageable).getContent();
+    }
 
-        return "post/list";
+    // 인기 게시글 TOP 10
+    private List<PostDto> loadPopularPosts() {
+        return postService.getPopularPosts(PageRequest.of(0, 10)).getContent();
     }
 
     @PostMapping("/write")
@@ -164,12 +238,8 @@ public class PostController {
         model.addAttribute("postDto", new PostDto());
 
         // 게시판 목록 추가
-        model.addAttribute("noticeBoardList", allBoards.stream()
-                .filter(b -> "NOTICE".equals(b.getCategory()))
-                .toList());
-        model.addAttribute("boardList", allBoards.stream()
-                .filter(b -> b.getCategory() == null || !"NOTICE".equals(b.getCategory()))
-                .toList());
+        model.addAttribute("noticeBoardList", boardService.getNoticeBoardList());
+        model.addAttribute("boardList", boardService.getGeneralBoardList());
 
         // 인기 게시물 추가 (오른쪽 사이드바용)
         Pageable popularPageable = PageRequest.of(0, 10);
@@ -184,12 +254,41 @@ public class PostController {
                        @RequestParam Long id,
                        Criteria criteria,
                        Model model,
-                       @AuthenticationPrincipal CustomUserDetails userDetails) {
+                       @AuthenticationPrincipal CustomUserDetails userDetails,
+                       ServletWebRequest webRequest) {
         log.info("read boardId={}, id={}, criteria={}", boardId, id, criteria);
 
+        // 조건부 GET: 게시글 수정 시각 / 좋아요·댓글 수 / 게시판 변경 시각(이전·다음 글) / 게시판 목록 세대 / 로그인 사용자가 같으면
+        // 304로 끝내고 조회수만 올린다 (본문 조회/렌더링 생략, 조회수/인기글은 검증값에 넣지 않는 약한 ETag)
+        Optional<PostVersion> version = postService.getVersion(id);
+        if (version.isPresent()) {
+            PostVersion current = version.get();
+            String etag = ConditionalGet.weakEtag("post", id, current.getUpdatedAt(), current.getBoardChangedAt(),
+                    current.getLikesCount(), current.getCommentsCount(), boardService.getCatalogGeneration(),
+                    viewerOf(userDetails), postService.getLikeStamp(userIdOf(userDetails)));
+            if (ConditionalGet.checkNotModified(webRequest, etag, current.getLastModified())) {
+                postService.countView(id);
+                return null;
+            }
+        }
+
+        // 서로 독립적인 조회는 동시에 시작 (게시글 본문은 그동안 요청 스레드에서 조회)
+        // 게시글 본문 / 좋아요 여부는 필수, 인기글 / 이전·다음 글은 늦거나 실패하면 생략
+        PageAssembler.Scope page = pageAssembler.open();
+        PageFragment<PostDto> post = page.main(() -> postService.read(id));
+        PageFragment<Boolean> liked = userDetails == null
+                ? PageFragment.of(false)
+                : page.required("isLiked", () -> postService.isLiked(id, userDetails.getId()));
+        PageFragment<List<PostDto>> popularPosts = page.optional("popularPosts",
+                this::loadPopularPosts, List.of());
+        PageFragment<Optional<PostDto>> previous = page.optional("previousPost",
+                () -> postService.getPreviousPost(boardId, id), Optional.empty());
+        PageFragment<Optional<PostDto>> next = page.optional("nextPost",
+                () -> postService.getNextPost(boardId, id), Optional.empty());
+
         model.addAttribute("boardId", boardId);
         model.addAttribute("criteria", criteria);
-        model.addAttribute("postDto", postService.read(id));
+        model.addAttribute("postDto", post.get());
 
         // 현재 사용자 ID와 관리자 여부를 Model에 추가 (댓글 기능용)
         Long currentUserId = null;
@@ -202,31 +301,21 @@ public class PostController {
         model.addAttribute("isAdmin", isAdmin);
 
         // 좋아요 기능
-        boolean isLiked = false;
-        if (userDetails != null) {
-            isLiked = postService.isLiked(id, userDetails.getId());
-        }
-        model.addAttribute("isLiked", isLiked);
+        model.addAttribute("isLiked", liked.get());
 
         // 인기 게시글 데이터 조회
-        Pageable popularPageable = PageRequest.of(0, 10);
-        model.addAttribute("popularPosts", postService.getPopularPosts(popularPageable).getContent());
-
-        // 게시판 카테고리 목록 조회
-        List<BoardDto> allBoards = boardService.getList();
+        model.addAttribute("popularPosts", popularPosts.get());
 
-        // 카테고리가 'NOTICE'인 게시판만 필터링
-        model.addAttribute("noticeBoardList", boardService
-                .getList().stream().filter(b -> "NOTICE".equals(b.getCategory())).toList());
+        // 카테고리가 'NOTICE'인 게시판
+        model.addAttribute("noticeBoardList", boardService.getNoticeBoardList());
 
-        // 카테고리가 없거나 'NOTICE'가 아닌 일반 게시판만 필터링
-        model.addAttribute("boardList", boardService
-                .getList().stream().filter(b -> b.getCategory() == null || !"NOTICE".equals(b.getCategory())).toList());
+        // 카테고리가 없거나 'NOTICE'가 아닌 일반 게시판
+        model.addAttribute("boardList", boardService.getGeneralBoardList());
 
 
         // 이전/다음 게시물 조회
-        var previousPost = postService.getPreviousPost(boardId, id);
-        var nextPost = postService.getNextPost(boardId, id);
+        Optional<PostDto> previousPost = previous.get();
+        Optional<PostDto> nextPost = next.get();
 
         if (previousPost.isPresent()) {
             model.addAttribute("previousPost", previousPost.get());
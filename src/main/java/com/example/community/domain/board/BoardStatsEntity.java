@@ -0,0 +1,40 @@
+package com.example.community.domain.board;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * board_stats 테이블과 매핑되는 JPA 엔티티
+ * 게시판별 게시글 수/마지막 작성 시각을 미리 집계해 두어
+ * 목록 페이징 시 COUNT(*) 쿼리를 실행하지 않도록 한다
+ * changed_at은 게시판 글 작성/수정/삭제 시각 (목록 화면의 조건부 GET 검증값)
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "board_stats")
+public class BoardStatsEntity {
+    @Id
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "post_count", nullable = false)
+    private Long postCount;
+
+    @Column(name = "last_post_at")
+    private LocalDateTime lastPostAt;
+
+    @Column(name = "changed_at")
+    private LocalDateTime changedAt;
+
+    @Builder
+    public BoardStatsEntity(Long boardId, Long postCount, LocalDateTime lastPostAt) {
+        this.boardId = boardId;
+        this.postCount = (postCount == null ? 0L : postCount);
+        this.lastPostAt = lastPostAt;
+        this.changedAt = LocalDateTime.now();
+    }
+}
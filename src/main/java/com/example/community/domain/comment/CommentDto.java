@@ -1,5 +1,6 @@
 package com.example.community.domain.comment;
 
+import com.example.community.domain.post.PostCounter;
 import com.example.community.domain.post.PostEntity;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -34,14 +35,13 @@ public class CommentDto {
 
     private Integer commentsCount;
 
-    // 기존 from (writer는 비어있음)
+    // 기존 from (writer는 비어있음, 게시글 댓글 수는 post_stats에서 따로 채운다)
     public static CommentDto from(@NotNull CommentEntity commentEntity) {
         return CommentDto.builder()
                 .id(commentEntity.getId())
                 .userId(commentEntity.getUserId())
                 .postId(commentEntity.getPostEntity().getId())
                 .boardId(commentEntity.getPostEntity().getBoardId())
-                .commentsCount(commentEntity.getPostEntity().getCommentsCount())
                 .content(commentEntity.getContent())
                 .createdAt(commentEntity.getCreatedAt())
                 .updatedAt(commentEntity.getUpdatedAt())
@@ -55,6 +55,22 @@ public class CommentDto {
         return dto;
     }
 
+    // 목록 프로젝션 -> DTO (게시글/작성자 엔티티 조회 없음)
+    public static CommentDto from(@NotNull CommentRow commentRow) {
+        return CommentDto.builder()
+                .id(commentRow.getId())
+                .userId(commentRow.getUserId())
+                .postId(commentRow.getPostId())
+                .boardId(commentRow.getBoardId())
+                .commentsCount(PostCounter.displayed(commentRow.getCommentsCount()))
+                .content(commentRow.getContent())
+                .createdAt(commentRow.getCreatedAt())
+                .updatedAt(commentRow.getUpdatedAt())
+                .postTitle(commentRow.getPostTitle())
+                .writer(commentRow.getWriter())
+                .build();
+    }
+
     /**
      * CommentDto -> CommentEntity
      * userId는 Service에서 직접 세팅할거라 여기서는 안 넣어도 됨
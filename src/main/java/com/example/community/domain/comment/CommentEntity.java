@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글 댓글 키셋 페이징 (post_id = ? AND id > ? ORDER BY id)
+        @Index(name = "idx_comments_post_id_id", columnList = "post_id, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
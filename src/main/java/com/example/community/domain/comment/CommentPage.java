@@ -0,0 +1,26 @@
+package com.example.community.domain.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 게시글 댓글 키셋 페이지 (id 오름차순)
+ * 다음 페이지는 nextAfter를 after 파라미터로 넘겨 조회한다
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CommentPage {
+    private final List<CommentDto> content;
+    // 다음 페이지 조회용 커서 (마지막 댓글 ID, 더 없으면 null)
+    private final Long nextAfter;
+    // 게시글 전체 댓글 수
+    private final long totalCount;
+
+    public boolean isHasNext() {
+        return nextAfter != null;
+    }
+}
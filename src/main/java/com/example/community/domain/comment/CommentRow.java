@@ -0,0 +1,36 @@
+package com.example.community.domain.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록용 프로젝션 (댓글 + 게시글 제목/게시판 ID/댓글 수 + 작성자 닉네임)
+ * 목록 쿼리에서 JPQL 생성자 표현식(SELECT new ...)으로 조회한다
+ * 게시글 본문과 작성자 엔티티를 읽지 않고 한 번의 쿼리로 화면 데이터를 채운다
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CommentRow {
+
+    // JPQL SELECT ~ FROM 절 (생성자 인자 순서와 같아야 함, 댓글 별칭 c / 게시글 별칭 p / 카운터 별칭 s)
+    public static final String SELECT = "SELECT new com.example.community.domain.comment.CommentRow(" +
+            "c.id, c.userId, p.id, p.boardId, p.title, s.comments, c.content, c.createdAt, c.updatedAt, " +
+            "COALESCE(u.nickname, 'unknown')) " +
+            "FROM CommentEntity c JOIN c.postEntity p JOIN PostStatsEntity s ON s.postId = p.id " +
+            "LEFT JOIN UserEntity u ON u.id = c.userId ";
+
+    private final Long id;
+    private final Long userId;
+    private final Long postId;
+    private final Long boardId;
+    private final String postTitle;
+    private final Integer commentsCount;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final String writer;
+}
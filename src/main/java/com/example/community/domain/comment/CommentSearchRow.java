@@ -0,0 +1,12 @@
+package com.example.community.domain.comment;
+
+/**
+ * 댓글 검색 색인용 프로젝션 (댓글 + 게시글 ID/게시판 ID)
+ */
+public interface CommentSearchRow {
+    Long getId();
+    Long getPostId();
+    Long getBoardId();
+    Long getUserId();
+    String getContent();
+}
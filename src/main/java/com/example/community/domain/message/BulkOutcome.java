@@ -0,0 +1,13 @@
+package com.example.community.domain.message;
+
+/**
+ * 쪽지 일괄 처리(휴지통 이동/복구/영구 삭제) 결과 (쪽지 ID별)
+ */
+public enum BulkOutcome {
+    // 상태 변경됨
+    DONE,
+    // 내 쪽지지만 이미 처리된 상태라 바뀐 게 없음
+    SKIPPED,
+    // 없는 쪽지이거나 내가 보낸/받은 쪽지가 아님
+    NOT_FOUND
+}
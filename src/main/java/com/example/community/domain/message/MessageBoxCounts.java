@@ -0,0 +1,11 @@
+package com.example.community.domain.message;
+
+/**
+ * 쪽지함별 전체 건수 프로젝션 (user_message_counters)
+ * 목록 페이징 시 COUNT 쿼리 대신 사용한다
+ */
+public interface MessageBoxCounts {
+    long getInbox();
+    long getSent();
+    long getTrash();
+}
@@ -0,0 +1,9 @@
+package com.example.community.domain.message;
+
+/**
+ * 일괄 처리 전 쪽지 상태 프로젝션 (쪽지 ID + 내 쪽의 삭제 상태)
+ */
+public interface MessageBoxState {
+    Long getId();
+    Integer getState();
+}
@@ -70,4 +70,28 @@ public class MessageDto {
                 .displayNickname(dNick)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 목록 프로젝션 -> Dto 변환 (본문, 회원 아이디 제외)
+     * 현재 로그인 유저 ID로 type과 displayNickname을 계산
+     */
+    public static MessageDto from(@NotNull MessageSummary summary, Long currentUserId) {
+        String mType = summary.getReceiverId().equals(currentUserId) ? "RECEIVED" : "SENT";
+
+        String dNick = mType.equals("RECEIVED")
+                ? summary.getSenderNickname()
+                : summary.getReceiverNickname();
+
+        return MessageDto.builder()
+                .id(summary.getId())
+                .senderNickname(summary.getSenderNickname())
+                .receiverNickname(summary.getReceiverNickname())
+                .title(summary.getTitle())
+                .isRead(summary.getIsRead())
+                .createdAt(summary.getCreatedAt())
+                .readedAt(summary.getReadedAt())
+                .type(mType)
+                .displayNickname(dNick)
+                .build();
+    }
+}
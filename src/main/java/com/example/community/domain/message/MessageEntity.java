@@ -11,7 +11,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+        // 받은 쪽지함 / 보낸 쪽지함 목록 (최신순)
+        @Index(name = "idx_messages_receiver_id_state_id", columnList = "receiver_id, receiver_delete_state, id"),
+        @Index(name = "idx_messages_sender_id_state_id", columnList = "sender_id, sender_delete_state, id")
+})
 public class MessageEntity {
 
     /**
@@ -24,17 +28,17 @@ public class MessageEntity {
 
     /**
      * 발신자 정보 users 테이블의 ID를 참조
-     * fetch 타입 EAGER : 바로 조회기능
+     * fetch 타입 LAZY : 목록은 MessageSummary 프로젝션으로, 상세는 fetch join으로 조회
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sender_id", nullable = false)
     private UserEntity sender;
 
     /**
      * 수신자 정보 users 테이블의 ID를 참조
-     * fetch 타입 EAGER : 바로 조회기능
+     * fetch 타입 LAZY : 목록은 MessageSummary 프로젝션으로, 상세는 fetch join으로 조회
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "receiver_id", nullable = false)
     private UserEntity receiver;
 
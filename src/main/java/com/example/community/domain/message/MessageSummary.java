@@ -0,0 +1,33 @@
+package com.example.community.domain.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쪽지함 목록용 프로젝션 (본문 content, 회원 엔티티 제외)
+ * 발신자/수신자는 ID와 닉네임만 users 조인 한 번으로 가져온다
+ * 목록 쿼리에서 JPQL 생성자 표현식(SELECT new ...)으로 조회한다
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class MessageSummary {
+
+    // JPQL SELECT + FROM 절 (생성자 인자 순서와 같아야 함)
+    public static final String SELECT = "SELECT new com.example.community.domain.message.MessageSummary(" +
+            "m.id, s.id, s.nickname, r.id, r.nickname, m.title, m.isRead, m.createdAt, m.readedAt) " +
+            "FROM MessageEntity m JOIN m.sender s JOIN m.receiver r ";
+
+    private final Long id;
+    private final Long senderId;
+    private final String senderNickname;
+    private final Long receiverId;
+    private final String receiverNickname;
+    private final String title;
+    private final Integer isRead;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime readedAt;
+}
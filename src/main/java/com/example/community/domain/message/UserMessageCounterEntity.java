@@ -0,0 +1,36 @@
+package com.example.community.domain.message;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * user_message_counters 테이블과 매핑되는 JPA 엔티티
+ * 회원별 쪽지함 개수를 미리 집계해 두어 배지/쪽지함 개수 조회 시 messages를 COUNT하지 않도록 한다
+ * - unread: 읽지 않은 받은 쪽지 (휴지통 제외)
+ * - inbox: 받은 쪽지함, sent: 보낸 쪽지함, trash: 휴지통 (받은 쪽지 + 보낸 쪽지)
+ * - 쪽지 상태가 바뀔 때 같은 트랜잭션에서 UserMessageCounterRepository의 UPDATE 쿼리로만 증감한다
+ * - 어긋난 값은 MessageCounterReconciler가 주기적으로 다시 센다
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "user_message_counters")
+public class UserMessageCounterEntity {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "unread", nullable = false)
+    private Long unread;
+
+    @Column(name = "inbox", nullable = false)
+    private Long inbox;
+
+    @Column(name = "sent", nullable = false)
+    private Long sent;
+
+    @Column(name = "trash", nullable = false)
+    private Long trash;
+}
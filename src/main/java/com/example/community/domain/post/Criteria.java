@@ -15,4 +15,11 @@ public class Criteria {
     private int size = 10;
     private String searchType = "";
     private String keyword = "";
+    // 키셋(커서) 페이징: 다음/이전 페이지 커서
+    private String after = "";
+    private String before = "";
+
+    public boolean hasCursor() {
+        return (after != null && !after.isBlank()) || (before != null && !before.isBlank());
+    }
 }
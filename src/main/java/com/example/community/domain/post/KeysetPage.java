@@ -0,0 +1,30 @@
+package com.example.community.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이징 결과
+ * 전체 건수(COUNT) 없이 현재 페이지와 이전/다음 커서만 전달한다
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class KeysetPage<T> {
+    private final List<T> content;
+    // 이전 페이지 커서 (없으면 null)
+    private final String prevCursor;
+    // 다음 페이지 커서 (없으면 null)
+    private final String nextCursor;
+
+    public boolean hasPrevious() {
+        return prevCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
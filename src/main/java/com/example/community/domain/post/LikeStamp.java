@@ -0,0 +1,10 @@
+package com.example.community.domain.post;
+
+/**
+ * 회원 좋아요 변경 확인용 프로젝션 (좋아요 수 + 마지막 좋아요 ID)
+ * 좋아요하면 maxId가, 취소하면 count가 바뀐다 (조건부 GET 검증값)
+ */
+public interface LikeStamp {
+    long getCount();
+    Long getMaxId();
+}
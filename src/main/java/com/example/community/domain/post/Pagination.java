@@ -9,6 +9,9 @@ import org.springframework.data.domain.Pageable;
 @ToString
 public class Pagination {
 
+    // OFFSET 페이징을 허용하는 마지막 페이지 (이후는 커서로 이동)
+    public static final int OFFSET_PAGE_LIMIT = 50;
+
     private final long totalElements;
     private final int pageSize;
     private final int lastPage;
@@ -19,7 +22,13 @@ public class Pagination {
     private final boolean prev;
     private final boolean next;
 
-    private Pagination(Pageable pageable, long totalElements, int lastPage, int pagesPerViewport) {
+    // 키셋(커서) 페이징
+    private final boolean cursorMode;
+    private final String prevCursor;
+    private final String nextCursor;
+
+    private Pagination(Pageable pageable, long totalElements, int lastPage, int pagesPerViewport,
+                       String prevCursor, String nextCursor) {
         this.totalElements = totalElements;
         this.pageSize = pageable.getPageSize();
         this.lastPage = lastPage;
@@ -37,14 +46,64 @@ public class Pagination {
 
         this.prev = this.startPage > 1;
         this.next = this.endPage < lastPage;
+
+        this.cursorMode = false;
+        this.prevCursor = prevCursor;
+        this.nextCursor = nextCursor;
+    }
+
+    private Pagination(Pageable pageable, String prevCursor, String nextCursor) {
+        this.totalElements = -1;
+        this.pageSize = pageable.getPageSize();
+        this.lastPage = -1;
+        this.pageNumber = -1;
+        this.pagesPerViewport = 0;
+        this.startPage = -1;
+        this.endPage = -1;
+        this.prev = prevCursor != null;
+        this.next = nextCursor != null;
+
+        this.cursorMode = true;
+        this.prevCursor = prevCursor;
+        this.nextCursor = nextCursor;
     }
 
     public static Pagination of(Pageable pageable, long totalElements, int lastPage) {
-        return new Pagination(pageable, totalElements, lastPage, 10);
+        return new Pagination(pageable, totalElements, lastPage, 10, null, null);
     }
 
     public static Pagination of(Pageable pageable, long totalElements) {
         return new Pagination(pageable, totalElements,
-                (int)(Math.ceil((double)totalElements / pageable.getPageSize())), 10);
+                (int)(Math.ceil((double)totalElements / pageable.getPageSize())), 10, null, null);
+    }
+
+    /**
+     * OFFSET 페이징 + 다음 페이지 커서
+     * OFFSET_PAGE_LIMIT 이후 페이지는 nextCursor로 이어서 조회
+     */
+    public static Pagination of(Pageable pageable, long totalElements, int lastPage, String nextCursor) {
+        return new Pagination(pageable, totalElements, lastPage, 10, null, nextCursor);
+    }
+
+    /**
+     * 키셋(커서) 페이징
+     */
+    public static Pagination ofCursor(Pageable pageable, KeysetPage<?> keysetPage) {
+        return new Pagination(pageable, keysetPage.getPrevCursor(), keysetPage.getNextCursor());
+    }
+
+    /**
+     * 다음 페이지를 커서로 이동해야 하는지 여부
+     * OFFSET_PAGE_LIMIT 페이지 이후는 OFFSET 대신 커서로 이동
+     */
+    public boolean isCursorNext() {
+        return cursorMode || (nextCursor != null && pageNumber >= OFFSET_PAGE_LIMIT);
+    }
+
+    /**
+     * 화면에 표시할 마지막 페이지 번호 (OFFSET_PAGE_LIMIT까지만 번호 링크 표시)
+     */
+    public int getEndPageLink() {
+        return Math.max(startPage, Math.min(endPage, Math.max(OFFSET_PAGE_LIMIT, pageNumber)));
     }
 }
@@ -0,0 +1,18 @@
+package com.example.community.domain.post;
+
+/**
+ * 분산 카운터(post_counter_shards)로 나눠 쌓을 수 있는 게시글 카운터 종류
+ * 조회수는 ViewCountBuffer에서 메모리에 모아 반영하므로 포함하지 않는다
+ */
+public enum PostCounter {
+    LIKES,
+    COMMENTS;
+
+    /**
+     * 화면 표시용 값
+     * 증감은 도착 순서와 상관없이 그대로 더해 두므로(합산 전에는 잠시 음수일 수 있음) 보여줄 때만 0 미만을 0으로
+     */
+    public static int displayed(long count) {
+        return (int) Math.max(0, count);
+    }
+}
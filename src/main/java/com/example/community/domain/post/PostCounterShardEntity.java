@@ -0,0 +1,36 @@
+package com.example.community.domain.post;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * post_counter_shards 테이블과 매핑되는 JPA 엔티티
+ * 쓰기가 몰리는 게시글의 카운터를 (게시글, 카운터, 샤드 번호)별 여러 행에 나눠 쌓아
+ * posts 한 행에 잠금이 몰리지 않도록 한다 (주기적으로 posts에 합산 후 차감)
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "post_counter_shards",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "counter", "shard"}))
+public class PostCounterShardEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "counter", nullable = false, length = 20)
+    private PostCounter counter;
+
+    @Column(name = "shard", nullable = false)
+    private Integer shard;
+
+    // 아직 posts에 합산되지 않은 증감량
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+}
@@ -0,0 +1,77 @@
+package com.example.community.domain.post;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 키셋(커서) 페이징용 커서
+ * (정렬 키, 게시글 ID) 쌍을 URL-safe Base64 문자열로 감싸서 화면에 노출한다
+ * - 게시판 목록: (fixed, id)
+ * - 메인 피드: (viewCount, id)
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+    private final long key;
+    private final long id;
+
+    public static PostCursor of(long key, long id) {
+        return new PostCursor(key, id);
+    }
+
+    // 게시판 목록 커서 (fixed, id)
+    public static PostCursor ofBoard(PostSummary postSummary) {
+        return new PostCursor(postSummary.getFixed(), postSummary.getId());
+    }
+
+    public static PostCursor ofBoard(PostDto postDto) {
+        return new PostCursor(postDto.getFixed(), postDto.getId());
+    }
+
+    // 메인 피드 커서 (viewCount, id)
+    public static PostCursor ofFeed(PostSummary postSummary) {
+        return new PostCursor(postSummary.getViewCount(), postSummary.getId());
+    }
+
+    public static PostCursor ofFeed(PostDto postDto) {
+        return new PostCursor(postDto.getViewCount(), postDto.getId());
+    }
+
+    public String encode() {
+        String raw = key + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param cursor 화면에서 전달된 커서
+     * @return 비어있거나 형식이 잘못된 경우 empty
+     */
+    public static Optional<PostCursor> decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new PostCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
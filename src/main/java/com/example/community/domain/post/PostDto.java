@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostDto {
     private Long id;
     private Long userId;
@@ -24,6 +24,8 @@ public class PostDto {
     private String boardTitle;
     private String title;
     private String content;
+    // 목록 표시용 본문 앞부분 (목록 조회 시 content 대신 채워짐)
+    private String excerpt;
     // nickname
     private String writer;
 
@@ -39,6 +41,9 @@ public class PostDto {
     // 고정글 여부 (일반 - 0, 고정 - 1)
     private Short fixed;
 
+    /**
+     * 상세용 DTO (조회수/댓글/좋아요 수는 post_stats에서 따로 채운다)
+     */
     public static PostDto from(PostEntity postEntity, String writerNickname) {
         if (postEntity == null) {
             throw new IllegalArgumentException("postEntity cannot be null");
@@ -50,15 +55,38 @@ public class PostDto {
                 .boardId(postEntity.getBoardId())
                 .title(postEntity.getTitle())
                 .content(postEntity.getContent())
+                .excerpt(postEntity.getExcerpt())
                 // 닉네임이 나오게
                 .writer(writerNickname)
                 .createdAt(postEntity.getCreatedAt())
                 .updatedAt(postEntity.getUpdatedAt())
-                .viewCount(postEntity.getViewCount())
-                .commentsCount(postEntity.getCommentsCount())
-                .likesCount(postEntity.getLikesCount())
                 .postType(postEntity.getPostType())
                 .fixed(postEntity.getFixed())
                 .build();
     }
+
+    /**
+     * 목록용 DTO (본문 content 없이 excerpt만)
+     */
+    public static PostDto from(PostSummary postSummary, String writerNickname) {
+        if (postSummary == null) {
+            throw new IllegalArgumentException("postSummary cannot be null");
+        }
+
+        return PostDto.builder()
+                .id(postSummary.getId())
+                .userId(postSummary.getUserId())
+                .boardId(postSummary.getBoardId())
+                .title(postSummary.getTitle())
+                .excerpt(postSummary.getExcerpt())
+                .writer(writerNickname)
+                .createdAt(postSummary.getCreatedAt())
+                .updatedAt(postSummary.getUpdatedAt())
+                .viewCount(postSummary.getViewCount())
+                .commentsCount(PostCounter.displayed(postSummary.getCommentsCount()))
+                .likesCount(PostCounter.displayed(postSummary.getLikesCount()))
+                .postType(postSummary.getPostType())
+                .fixed(postSummary.getFixed())
+                .build();
+    }
 }
@@ -13,13 +13,21 @@ import java.util.List;
 /**
  * posts 테이블과 매핑되는 JPA 엔티티(entity)
  * writer(nickname)은 posts에 저장하지 않고, users 테이블에서 조회해서 DTO를 채운다
+ * 조회수/좋아요/댓글 수는 posts에 두지 않는다 (post_stats, PostStatsEntity)
  */
 @Getter
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 키셋 페이징 (게시판 목록: fixed DESC, id DESC / 메인 피드는 post_stats 인덱스 사용)
+        @Index(name = "idx_posts_board_fixed_id", columnList = "board_id, fixed, id")
+})
 public class PostEntity {
+
+    // 목록 표시용 본문 앞부분 길이
+    public static final int EXCERPT_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", nullable = false)
@@ -37,6 +45,10 @@ public class PostEntity {
     @Column(name = "content", columnDefinition = "TEXT", nullable = false)
     private String content;
 
+    // 목록 표시용 본문 앞부분 (본문 저장 시 함께 갱신)
+    @Column(name = "excerpt", length = EXCERPT_LENGTH)
+    private String excerpt;
+
     // nickname
     // private String writer;
 
@@ -48,15 +60,6 @@ public class PostEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    @Column(name = "view_count", nullable = false)
-    private Integer viewCount;
-
-    @Column(name = "comments_count", nullable = false)
-    private Integer commentsCount;
-
-    @Column(name = "likes_count", nullable = false)
-    private Integer likesCount;
-
     // 게시글 타입 (공지/일반 등, nullable)
     @Column(name = "post_type")
     private Short postType;
@@ -70,16 +73,12 @@ public class PostEntity {
     private List<CommentEntity> commentEntityList = new ArrayList<>();
 
     @Builder
-    public PostEntity(Long userId, Long boardId, String title, String content,
-                      Integer viewCount, Integer commentsCount, Integer likesCount, Short postType, Short fixed) {
+    public PostEntity(Long userId, Long boardId, String title, String content, Short postType, Short fixed) {
         this.userId = userId;
         this.boardId = boardId;
         this.title = title;
         this.content = content;
-
-        this.viewCount = (viewCount == null ? 0 : viewCount);
-        this.commentsCount = (commentsCount == null ? 0 : commentsCount);
-        this.likesCount = (likesCount == null ? 0 : likesCount);
+        this.excerpt = excerptOf(content);
 
         this.postType = postType;
         this.fixed = (fixed == null ? (short) 0 : fixed);
@@ -93,9 +92,28 @@ public class PostEntity {
 
     public PostEntity updateContent(String content) {
         this.content = content;
+        this.excerpt = excerptOf(content);
         return this;
     }
 
+    // 본문 -> 목록용 앞부분 (공백 정리 후 EXCERPT_LENGTH 글자, 이모지 등 서로게이트 쌍은 자르지 않음)
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+
+        String flattened = content.replaceAll("\\s+", " ").strip();
+        if (flattened.length() <= EXCERPT_LENGTH) {
+            return flattened;
+        }
+
+        int end = EXCERPT_LENGTH;
+        if (Character.isHighSurrogate(flattened.charAt(end - 1))) {
+            end--;
+        }
+        return flattened.substring(0, end);
+    }
+
     public PostEntity updatePostType(Short postType) {
         this.postType = postType;
         return this;
@@ -106,31 +124,4 @@ public class PostEntity {
         return this;
     }
 
-    public PostEntity increaseViewCount() {
-        this.viewCount = (this.viewCount == null ? 0 : this.viewCount + 1);
-        return this;
-    }
-
-    public PostEntity increaseCommentsCount() {
-        this.commentsCount = (this.commentsCount == null ? 1 : this.commentsCount + 1);
-        return this;
-    }
-
-    public PostEntity decreaseCommentsCount() {
-        this.commentsCount = (this.commentsCount == null || this.commentsCount <= 0 ? 0 : this.commentsCount - 1);
-        return this;
-    }
-
-    // 좋아요 증가
-    public PostEntity increaseLikesCount() {
-        this.likesCount = (this.likesCount == null ? 1 : this.likesCount + 1);
-        return this;
-    }
-
-    // 좋아요 감소
-    public PostEntity decreaseLikesCount() {
-        this.likesCount = (this.likesCount == null || this.likesCount <= 0 ? 0 : this.likesCount - 1);
-        return this;
-    }
-
 }
@@ -9,7 +9,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "post_likes",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "user_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "user_id"}),
+        indexes = {
+                // 회원별 좋아요 조회 / 변경 확인 (user_id, id)
+                @Index(name = "idx_post_likes_user_id_id", columnList = "user_id, id")
+        })
 public class PostLikeEntity {
 
     @Id
@@ -0,0 +1,44 @@
+package com.example.community.domain.post;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * post_stats 테이블과 매핑되는 JPA 엔티티
+ * 자주 바뀌는 게시글 카운터(조회수/좋아요/댓글 수)를 posts와 분리한 좁은 테이블
+ * - 카운터 변경은 이 테이블만 갱신하므로 posts.updated_at(마지막 수정 시각)과 본문 행은 건드리지 않는다
+ * - 게시글 작성 시 함께 행을 만들고, 게시글 삭제 시 함께 지운다 (PostServiceImpl)
+ * - 카운터 증감은 PostStatsRepository의 UPDATE 쿼리로만 한다
+ * - 목록/상세의 카운터는 이 테이블을 조인해서 읽는다 (PostSummary, PostVersion, CommentRow)
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "post_stats", indexes = {
+        // 메인 피드 / 인기글 정렬 (views DESC, post_id DESC)
+        @Index(name = "idx_post_stats_views_post_id", columnList = "views, post_id")
+})
+public class PostStatsEntity {
+
+    @Id
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "views", nullable = false)
+    private Integer views;
+
+    @Column(name = "likes", nullable = false)
+    private Integer likes;
+
+    @Column(name = "comments", nullable = false)
+    private Integer comments;
+
+    @Builder
+    public PostStatsEntity(Long postId, Integer views, Integer likes, Integer comments) {
+        this.postId = postId;
+        this.views = (views == null ? 0 : views);
+        this.likes = (likes == null ? 0 : likes);
+        this.comments = (comments == null ? 0 : comments);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.community.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 프로젝션 (본문 content 제외)
+ * 목록 쿼리에서 JPQL 생성자 표현식(SELECT new ...)으로 조회한다
+ * 조회수/댓글/좋아요 수는 post_stats를 조인해서 읽는다
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PostSummary {
+
+    // JPQL SELECT ~ FROM 절 (생성자 인자 순서와 같아야 함, 게시글 별칭 p / 카운터 별칭 s)
+    public static final String SELECT = "SELECT new com.example.community.domain.post.PostSummary(" +
+            "p.id, p.userId, p.boardId, p.title, p.excerpt, p.createdAt, p.updatedAt, " +
+            "s.views, s.comments, s.likes, p.postType, p.fixed) " +
+            "FROM PostEntity p JOIN PostStatsEntity s ON s.postId = p.id ";
+
+    // 조회수 많은 순, 같으면 id 역순 (메인 피드 키셋 페이징과 같은 순서)
+    // 조회수는 조인한 카운터(s)에 있으므로 별칭을 붙이지 않고 그대로 정렬
+    public static final Sort BY_VIEWS = JpaSort.unsafe(Sort.Direction.DESC, "s.views")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private final Long id;
+    private final Long userId;
+    private final Long boardId;
+    private final String title;
+    private final String excerpt;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Integer viewCount;
+    private final Integer commentsCount;
+    private final Integer likesCount;
+    private final Short postType;
+    private final Short fixed;
+}
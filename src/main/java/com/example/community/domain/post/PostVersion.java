@@ -0,0 +1,41 @@
+package com.example.community.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 화면 검증값 프로젝션 (조건부 GET용)
+ * 본문 없이 수정 시각 / 좋아요·댓글 수 / 게시판 변경 시각만 읽는다
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PostVersion {
+
+    // JPQL SELECT ~ FROM 절 (생성자 인자 순서와 같아야 함, 게시글 별칭 p)
+    public static final String SELECT = "SELECT new com.example.community.domain.post.PostVersion(" +
+            "p.id, p.boardId, p.updatedAt, s.likes, s.comments, b.changedAt) " +
+            "FROM PostEntity p JOIN PostStatsEntity s ON s.postId = p.id " +
+            "LEFT JOIN BoardStatsEntity b ON b.boardId = p.boardId ";
+
+    private final Long id;
+    private final Long boardId;
+    private final LocalDateTime updatedAt;
+    private final Integer likesCount;
+    private final Integer commentsCount;
+    // 이전·다음 글이 바뀌는 것도 반영하기 위한 게시판 변경 시각
+    private final LocalDateTime boardChangedAt;
+
+    /**
+     * 게시글 / 게시판 중 늦은 변경 시각 (Last-Modified)
+     */
+    public LocalDateTime getLastModified() {
+        if (boardChangedAt == null || (updatedAt != null && updatedAt.isAfter(boardChangedAt))) {
+            return updatedAt;
+        }
+        return boardChangedAt;
+    }
+}
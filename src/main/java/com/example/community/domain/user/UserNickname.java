@@ -0,0 +1,10 @@
+package com.example.community.domain.user;
+
+/**
+ * 회원 ID + 닉네임 프로젝션
+ * 목록 화면의 작성자 표시용 (비밀번호 등 나머지 컬럼은 읽지 않는다)
+ */
+public interface UserNickname {
+    Long getId();
+    String getNickname();
+}
@@ -0,0 +1,70 @@
+package com.example.community.persistence;
+
+import com.example.community.domain.board.BoardStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface BoardStatsRepository extends JpaRepository<BoardStatsEntity, Long> {
+
+    /**
+     * 게시글 수 1 증가 + 마지막 작성 시각/변경 시각 갱신
+     * @return 갱신된 행 수 (집계 행이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BoardStatsEntity s SET s.postCount = s.postCount + 1, s.lastPostAt = :postedAt, " +
+            "s.changedAt = :postedAt WHERE s.boardId = :boardId")
+    int increasePostCount(@Param("boardId") Long boardId, @Param("postedAt") LocalDateTime postedAt);
+
+    /**
+     * 집계 행이 없을 때만 현재 게시글 수로 새로 만든다 (이미 있으면 무시)
+     * 같은 게시판의 첫 게시글이 동시에 작성되어도 기본 키 충돌로 게시글 작성이 롤백되지 않도록 INSERT IGNORE 사용
+     * @return 추가된 행 수 (다른 트랜잭션이 먼저 만들었으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO board_stats (board_id, post_count, last_post_at, changed_at) " +
+            "SELECT :boardId, COUNT(*), MAX(p.created_at), CURRENT_TIMESTAMP FROM posts p WHERE p.board_id = :boardId",
+            nativeQuery = true)
+    int insertRecounted(@Param("boardId") Long boardId);
+
+    /**
+     * 게시판 삭제 시 집계 행 삭제
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM BoardStatsEntity s WHERE s.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 게시글 수 1 감소 (0 미만으로 내려가지 않음) + 변경 시각 갱신
+     * @return 갱신된 행 수 (집계 행이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BoardStatsEntity s SET s.postCount = CASE WHEN s.postCount > 0 THEN s.postCount - 1 ELSE 0 END, " +
+            "s.changedAt = :changedAt WHERE s.boardId = :boardId")
+    int decreasePostCount(@Param("boardId") Long boardId, @Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * 변경 시각만 갱신 (게시글 수정, 댓글 작성/삭제)
+     * @return 갱신된 행 수 (집계 행이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BoardStatsEntity s SET s.changedAt = :changedAt WHERE s.boardId = :boardId")
+    int touch(@Param("boardId") Long boardId, @Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * 게시판 변경 시각만 조회
+     */
+    @Query("SELECT s.changedAt FROM BoardStatsEntity s WHERE s.boardId = :boardId")
+    Optional<LocalDateTime> findChangedAtByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 전체 게시글 수 (게시판별 집계 합계)
+     */
+    @Query("SELECT COALESCE(SUM(s.postCount), 0) FROM BoardStatsEntity s")
+    long sumPostCount();
+}
@@ -1,12 +1,17 @@
 package com.example.community.persistence;
 
 import com.example.community.domain.comment.CommentEntity;
+import com.example.community.domain.comment.CommentRow;
+import com.example.community.domain.comment.CommentSearchRow;
 import com.example.community.domain.post.PostEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
     /**
@@ -41,4 +46,60 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
      * @return 최신순의로 정렬된 댓글 리스트
      */
     List<CommentEntity> findByPostEntityIdOrderByIdDesc(Long postId);
-}
\ No newline at end of file
+
+    /**
+     * 게시글 댓글 키셋 페이징 (id 오름차순, afterId 이후)
+     * @param postId 게시물 고유번호
+     * @param afterId 이 ID 이후부터 (처음이면 0)
+     * @param pageable 조회 개수
+     * @return 댓글 목록 (게시글 제목/작성자 닉네임 포함)
+     */
+    @Query(CommentRow.SELECT + "WHERE p.id = :postId AND c.id > :afterId ORDER BY c.id")
+    List<CommentRow> findPageByPostId(@Param("postId") Long postId,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    /**
+     * 게시글 댓글 전체 (id 오름차순)
+     */
+    @Query(CommentRow.SELECT + "WHERE p.id = :postId ORDER BY c.id")
+    List<CommentRow> findRowsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 전체 댓글 목록 (관리자)
+     */
+    @Query(value = CommentRow.SELECT,
+            countQuery = "SELECT COUNT(c) FROM CommentEntity c")
+    Page<CommentRow> findRows(Pageable pageable);
+
+    /**
+     * 회원이 작성한 댓글 목록 (마이페이지)
+     */
+    @Query(value = CommentRow.SELECT + "WHERE c.userId = :userId",
+            countQuery = "SELECT COUNT(c) FROM CommentEntity c WHERE c.userId = :userId")
+    Page<CommentRow> findRowsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 댓글 검색 색인 생성용 (id 순 키셋 조회)
+     * @param afterId 이 ID 이후부터
+     * @param pageable 조회 개수
+     * @return 댓글 + 게시글 ID/게시판 ID
+     */
+    @Query("SELECT c.id AS id, p.id AS postId, p.boardId AS boardId, c.userId AS userId, c.content AS content " +
+            "FROM CommentEntity c JOIN c.postEntity p WHERE c.id > :afterId ORDER BY c.id")
+    List<CommentSearchRow> findSearchRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 댓글 검색 색인 재동기화용 (댓글 1건)
+     */
+    @Query("SELECT c.id AS id, p.id AS postId, p.boardId AS boardId, c.userId AS userId, c.content AS content " +
+            "FROM CommentEntity c JOIN c.postEntity p WHERE c.id = :id")
+    Optional<CommentSearchRow> findSearchRowById(@Param("id") Long id);
+
+    /**
+     * 댓글 검색 색인 재동기화용 (게시글의 댓글 전체)
+     */
+    @Query("SELECT c.id AS id, p.id AS postId, p.boardId AS boardId, c.userId AS userId, c.content AS content " +
+            "FROM CommentEntity c JOIN c.postEntity p WHERE p.id = :postId")
+    List<CommentSearchRow> findSearchRowsByPostId(@Param("postId") Long postId);
+}
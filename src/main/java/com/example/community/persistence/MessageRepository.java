@@ -1,13 +1,20 @@
 package com.example.community.persistence;
 
+import com.example.community.domain.message.MessageBoxState;
 import com.example.community.domain.message.MessageEntity;
+import com.example.community.domain.message.MessageSummary;
 import com.example.community.domain.user.UserEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface MessageRepository extends JpaRepository<MessageEntity, Long> {
 
     // 1. 받은 쪽지함 조회
@@ -34,4 +41,80 @@ public interface MessageRepository extends JpaRepository<MessageEntity, Long> {
 
     // 5. 읽지 않은 쪽지 개수
     long countByReceiverAndIsReadAndReceiverDeleteState(UserEntity receiver, Integer isRead, Integer receiverDeleteState);
-}
\ No newline at end of file
+
+    /**
+     * 6. 받은 쪽지함 목록 (프로젝션, COUNT 쿼리 없음 - 전체 건수는 user_message_counters 사용)
+     */
+    @Query(MessageSummary.SELECT + "WHERE m.receiver.id = :userId AND m.receiverDeleteState = 0")
+    List<MessageSummary> findReceivedList(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 7. 보낸 쪽지함 목록 (프로젝션)
+     */
+    @Query(MessageSummary.SELECT + "WHERE m.sender.id = :userId AND m.senderDeleteState = 0")
+    List<MessageSummary> findSentList(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 8. 휴지통 목록 (프로젝션)
+     */
+    @Query(MessageSummary.SELECT + "WHERE " +
+            "(m.receiver.id = :userId AND m.receiverDeleteState = 1) OR " +
+            "(m.sender.id = :userId AND m.senderDeleteState = 1)")
+    List<MessageSummary> findTrashList(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 9. 전체 쪽지함 목록 (프로젝션, 보낸 것 + 받은 것)
+     */
+    @Query(MessageSummary.SELECT + "WHERE " +
+            "(m.receiver.id = :userId AND m.receiverDeleteState = 0) OR " +
+            "(m.sender.id = :userId AND m.senderDeleteState = 0)")
+    List<MessageSummary> findAllList(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 10. 쪽지 상세 (발신자/수신자를 fetch join으로 함께 조회)
+     */
+    @Query("SELECT m FROM MessageEntity m JOIN FETCH m.sender JOIN FETCH m.receiver WHERE m.id = :id")
+    Optional<MessageEntity> findDetailById(@Param("id") Long id);
+
+    /**
+     * 11. 일괄 처리 대상 중 내가 받은 쪽지의 수신자 삭제 상태
+     */
+    @Query("SELECT m.id AS id, m.receiverDeleteState AS state FROM MessageEntity m " +
+            "WHERE m.id IN :ids AND m.receiver.id = :userId")
+    List<MessageBoxState> findReceiverStates(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    /**
+     * 12. 일괄 처리 대상 중 내가 보낸 쪽지의 발신자 삭제 상태
+     */
+    @Query("SELECT m.id AS id, m.senderDeleteState AS state FROM MessageEntity m " +
+            "WHERE m.id IN :ids AND m.sender.id = :userId")
+    List<MessageBoxState> findSenderStates(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    /**
+     * 13. 내가 받은 쪽지의 수신자 삭제 상태 일괄 변경 (from 상태이고 읽음 여부가 isRead인 것만)
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MessageEntity m SET m.receiverDeleteState = :to " +
+            "WHERE m.id IN :ids AND m.receiver.id = :userId AND m.receiverDeleteState = :from AND m.isRead = :isRead")
+    int updateReceiverStates(@Param("ids") Collection<Long> ids, @Param("userId") Long userId,
+                             @Param("from") Integer from, @Param("to") Integer to, @Param("isRead") Integer isRead);
+
+    /**
+     * 14. 내가 보낸 쪽지의 발신자 삭제 상태 일괄 변경 (from 상태인 것만)
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MessageEntity m SET m.senderDeleteState = :to " +
+            "WHERE m.id IN :ids AND m.sender.id = :userId AND m.senderDeleteState = :from")
+    int updateSenderStates(@Param("ids") Collection<Long> ids, @Param("userId") Long userId,
+                           @Param("from") Integer from, @Param("to") Integer to);
+
+    /**
+     * 15. 양측 모두 영구 삭제(state=2)한 쪽지 물리 삭제
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MessageEntity m WHERE m.id IN :ids AND m.senderDeleteState = 2 AND m.receiverDeleteState = 2")
+    int deletePermanently(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,65 @@
+package com.example.community.persistence;
+
+import com.example.community.domain.post.PostCounter;
+import com.example.community.domain.post.PostCounterShardEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface PostCounterShardRepository extends JpaRepository<PostCounterShardEntity, Long> {
+
+    /**
+     * 샤드 행에 증감량 누적 (행이 없으면 새로 만든다)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO post_counter_shards (post_id, counter, shard, amount) " +
+            "VALUES (:postId, :counter, :shard, :delta) " +
+            "ON DUPLICATE KEY UPDATE amount = amount + :delta", nativeQuery = true)
+    int add(@Param("postId") Long postId, @Param("counter") String counter,
+            @Param("shard") int shard, @Param("delta") long delta);
+
+    /**
+     * 아직 posts에 합산되지 않은 증감량 합계
+     */
+    @Query("SELECT COALESCE(SUM(s.amount), 0) FROM PostCounterShardEntity s " +
+            "WHERE s.postId = :postId AND s.counter = :counter")
+    long sumPending(@Param("postId") Long postId, @Param("counter") PostCounter counter);
+
+    /**
+     * 합산할 증감량이 남아 있는 샤드 행
+     */
+    @Query("SELECT s FROM PostCounterShardEntity s WHERE s.amount <> 0")
+    List<PostCounterShardEntity> findPending();
+
+    /**
+     * 게시글 하나의 합산할 증감량이 남아 있는 샤드 행
+     */
+    @Query("SELECT s FROM PostCounterShardEntity s WHERE s.postId = :postId AND s.amount <> 0")
+    List<PostCounterShardEntity> findPendingByPostId(@Param("postId") Long postId);
+
+    /**
+     * posts에 합산한 만큼 샤드 행에서 차감 (그 사이 들어온 증감량은 남는다)
+     */
+    @Modifying
+    @Query("UPDATE PostCounterShardEntity s SET s.amount = s.amount - :amount WHERE s.id = :id")
+    int subtract(@Param("id") Long id, @Param("amount") long amount);
+
+    /**
+     * 합산이 끝난(증감량 0) 샤드 행 제거
+     */
+    @Modifying
+    @Query("DELETE FROM PostCounterShardEntity s WHERE s.postId = :postId AND s.amount = 0")
+    int deleteFolded(@Param("postId") Long postId);
+
+    /**
+     * 삭제된 게시글의 샤드 행 제거
+     */
+    @Modifying
+    @Query("DELETE FROM PostCounterShardEntity s WHERE s.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -1,11 +1,36 @@
 package com.example.community.persistence;
 
+import com.example.community.domain.post.LikeStamp;
 import com.example.community.domain.post.PostLikeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLikeEntity, Long> {
     boolean existsByPostIdAndUserId(Long postId, Long userId);
     Optional<PostLikeEntity> findByPostIdAndUserId(Long postId, Long userId);
-}
\ No newline at end of file
+
+    // 목록 화면 좋아요 표시 - 회원이 좋아요한 게시글 ID (IN 쿼리 1회)
+    @Query("SELECT l.postId FROM PostLikeEntity l WHERE l.userId = :userId AND l.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // 회원 좋아요 변경 확인 (조건부 GET 검증값, idx_post_likes_user_id_id 인덱스만 읽음)
+    @Query("SELECT COUNT(l) AS count, MAX(l.id) AS maxId FROM PostLikeEntity l WHERE l.userId = :userId")
+    LikeStamp findLikeStamp(@Param("userId") Long userId);
+
+    // 좋아요 취소 (삭제된 행 수: 0 또는 1)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PostLikeEntity l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 좋아요 추가 (이미 있으면 무시, 추가된 행 수: 0 또는 1)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO post_likes (post_id, user_id, created_at) " +
+            "VALUES (:postId, :userId, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+}
@@ -1,72 +1,176 @@
 package com.example.community.persistence;
 
 import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostSummary;
+import com.example.community.domain.post.PostVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
+    // 게시판 내 검색 조건 (searchType별, 목록 쿼리와 COUNT 쿼리에서 같이 사용)
+    String BOARD_SEARCH_CONDITION =
+            "(:searchType = 'title' AND p.title LIKE %:keyword%) OR " +
+            "(:searchType = 'content' AND p.content LIKE %:keyword%) OR " +
+            "(:searchType = 'writer' AND p.userId IN (SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%)) OR " +
+            "(:searchType = 'titleContent' AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)) OR " +
+            "(:searchType = '' AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%))";
+
     // 게시판별 게시글 목록
     Page<PostEntity> findByBoardId(Long boardId, Pageable pageable);
 
     // 전체 게시물 목록 (메인 페이지용)
     Page<PostEntity> findAll(Pageable pageable);
 
+    // 게시판별 게시글 목록 (COUNT 쿼리 없음, 전체 건수는 board_stats 사용)
+    @Query(PostSummary.SELECT + "WHERE p.boardId = :boardId")
+    List<PostSummary> findListByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    // 전체 게시물 목록 (COUNT 쿼리 없음, 전체 건수는 board_stats 사용)
+    @Query(PostSummary.SELECT)
+    List<PostSummary> findList(Pageable pageable);
+
+    // 게시판별 게시글 수 (board_stats 집계 행 초기화용)
+    long countByBoardId(Long boardId);
+
     // 제목으로 검색
-    @Query("SELECT p FROM PostEntity p WHERE p.title LIKE %:keyword%")
-    Page<PostEntity> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = PostSummary.SELECT + "WHERE p.title LIKE %:keyword%",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.title LIKE %:keyword%")
+    Page<PostSummary> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
 
     // 내용으로 검색
-    @Query("SELECT p FROM PostEntity p WHERE p.content LIKE %:keyword%")
-    Page<PostEntity> searchByContent(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = PostSummary.SELECT + "WHERE p.content LIKE %:keyword%",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.content LIKE %:keyword%")
+    Page<PostSummary> searchByContent(@Param("keyword") String keyword, Pageable pageable);
 
     // 제목 + 내용 검색
-    @Query("SELECT p FROM PostEntity p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%")
-    Page<PostEntity> searchByTitleOrContent(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = PostSummary.SELECT + "WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%")
+    Page<PostSummary> searchByTitleOrContent(@Param("keyword") String keyword, Pageable pageable);
 
     // 작성자로 검색 (userId 기반)
-    @Query("SELECT p FROM PostEntity p JOIN UserEntity u ON p.userId = u.id WHERE u.nickname LIKE %:keyword%")
-    Page<PostEntity> searchByWriter(@Param("keyword") String keyword, Pageable pageable);
-
-    // 댓글 내용으로 검색
-    @Query("SELECT DISTINCT p FROM PostEntity p JOIN p.commentEntityList c WHERE c.content LIKE %:keyword%")
-    Page<PostEntity> searchByCommentContent(@Param("keyword") String keyword, Pageable pageable);
-
-    // 댓글 작성자로 검색
-    @Query("SELECT DISTINCT p FROM PostEntity p JOIN p.commentEntityList c JOIN UserEntity u ON c.userId = u.id WHERE u.nickname LIKE %:keyword%")
-    Page<PostEntity> searchByCommentWriter(@Param("keyword") String keyword, Pageable pageable);
-
-    // 조회수 TOP 10 (인기 게시글)
-    @Query("SELECT p FROM PostEntity p ORDER BY p.viewCount DESC")
-    Page<PostEntity> findTopByViewCount(Pageable pageable);
-
-    @Query("SELECT DISTINCT p FROM PostEntity p LEFT JOIN p.commentEntityList c LEFT JOIN UserEntity u2 ON c.userId = u2.id WHERE p.boardId = :boardId AND (" +
-            "(:searchType = 'title' AND p.title LIKE %:keyword%) OR " +
-            "(:searchType = 'content' AND p.content LIKE %:keyword%) OR " +
-            "(:searchType = 'writer' AND p.userId IN (SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%)) OR " +
-            "(:searchType = 'titleContent' AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)) OR " +
-            "(:searchType = 'commentContent' AND c.content LIKE %:keyword%) OR " +
-            "(:searchType = 'commentWriter' AND u2.nickname LIKE %:keyword%) OR " +
-            "(:searchType = '' AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)))")
-    Page<PostEntity> findByBoardIdAndSearchType(
+    @Query(value = PostSummary.SELECT + "JOIN UserEntity u ON p.userId = u.id WHERE u.nickname LIKE %:keyword%",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p JOIN UserEntity u ON p.userId = u.id " +
+                    "WHERE u.nickname LIKE %:keyword%")
+    Page<PostSummary> searchByWriter(@Param("keyword") String keyword, Pageable pageable);
+
+    // 댓글 내용으로 검색 (댓글 검색 색인을 쓸 수 없을 때만 사용)
+    @Query(value = PostSummary.SELECT + "WHERE EXISTS (" +
+            "SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.content LIKE %:keyword%)",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE EXISTS (" +
+                    "SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.content LIKE %:keyword%)")
+    Page<PostSummary> searchByCommentContent(@Param("keyword") String keyword, Pageable pageable);
+
+    // 댓글 작성자로 검색 (댓글 검색 색인을 쓸 수 없을 때만 사용)
+    @Query(value = PostSummary.SELECT + "WHERE EXISTS (" +
+            "SELECT 1 FROM CommentEntity c JOIN UserEntity u ON c.userId = u.id " +
+            "WHERE c.postEntity = p AND u.nickname LIKE %:keyword%)",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE EXISTS (" +
+                    "SELECT 1 FROM CommentEntity c JOIN UserEntity u ON c.userId = u.id " +
+                    "WHERE c.postEntity = p AND u.nickname LIKE %:keyword%)")
+    Page<PostSummary> searchByCommentWriter(@Param("keyword") String keyword, Pageable pageable);
+
+    // 게시판 내 댓글 내용으로 검색 (댓글 검색 색인을 쓸 수 없을 때만 사용)
+    @Query(value = PostSummary.SELECT + "WHERE p.boardId = :boardId AND EXISTS (" +
+            "SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.content LIKE %:keyword%)",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId = :boardId AND EXISTS (" +
+                    "SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.content LIKE %:keyword%)")
+    Page<PostSummary> searchByCommentContentInBoard(@Param("boardId") Long boardId,
+                                                    @Param("keyword") String keyword,
+                                                    Pageable pageable);
+
+    // 게시판 내 댓글 작성자로 검색 (댓글 검색 색인을 쓸 수 없을 때만 사용)
+    @Query(value = PostSummary.SELECT + "WHERE p.boardId = :boardId AND EXISTS (" +
+            "SELECT 1 FROM CommentEntity c JOIN UserEntity u ON c.userId = u.id " +
+            "WHERE c.postEntity = p AND u.nickname LIKE %:keyword%)",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId = :boardId AND EXISTS (" +
+                    "SELECT 1 FROM CommentEntity c JOIN UserEntity u ON c.userId = u.id " +
+                    "WHERE c.postEntity = p AND u.nickname LIKE %:keyword%)")
+    Page<PostSummary> searchByCommentWriterInBoard(@Param("boardId") Long boardId,
+                                                   @Param("keyword") String keyword,
+                                                   Pageable pageable);
+
+    // 게시판 내 게시글 검색 (댓글 검색은 searchByComment...InBoard 사용, comments 테이블 조인 없음)
+    @Query(value = PostSummary.SELECT + "WHERE p.boardId = :boardId AND (" + BOARD_SEARCH_CONDITION + ")",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId = :boardId AND (" + BOARD_SEARCH_CONDITION + ")")
+    Page<PostSummary> findByBoardIdAndSearchType(
             @Param("boardId") Long boardId,
             @Param("searchType") String searchType,
             @Param("keyword") String keyword,
             Pageable pageable);
 
     // 내가 작성한 게시글 목록
-    Page<PostEntity> findByUserId(Long userId, Pageable pageable);
-
-    // 이전 게시물: ID > currentId인 가장 작은 것 (최신순)
-    Optional<PostEntity> findFirstByBoardIdAndIdGreaterThanOrderByIdAsc(Long boardId, Long currentId);
-
-    // 다음 게시물: ID < currentId인 가장 큰 것 (최신순)
-    Optional<PostEntity> findFirstByBoardIdAndIdLessThanOrderByIdDesc(Long boardId, Long currentId);
-
-
-}
\ No newline at end of file
+    @Query(value = PostSummary.SELECT + "WHERE p.userId = :userId",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.userId = :userId")
+    Page<PostSummary> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 이전 게시물: ID > currentId인 가장 작은 것 (최신순) - 1건만 조회
+    @Query(PostSummary.SELECT + "WHERE p.boardId = :boardId AND p.id > :id ORDER BY p.id ASC")
+    List<PostSummary> findPrevious(@Param("boardId") Long boardId, @Param("id") Long currentId, Pageable pageable);
+
+    // 다음 게시물: ID < currentId인 가장 큰 것 (최신순) - 1건만 조회
+    @Query(PostSummary.SELECT + "WHERE p.boardId = :boardId AND p.id < :id ORDER BY p.id DESC")
+    List<PostSummary> findNext(@Param("boardId") Long boardId, @Param("id") Long currentId, Pageable pageable);
+
+    // 인기 게시글 (조회수 순, 목록용)
+    @Query(PostSummary.SELECT + "ORDER BY s.views DESC, p.id DESC")
+    List<PostSummary> findPopular(Pageable pageable);
+
+    // ID 목록으로 목록용 조회 (검색 결과 페이지)
+    @Query(PostSummary.SELECT + "WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 키셋 페이징 - 게시판 목록 (fixed DESC, id DESC) 커서 이후
+    @Query(PostSummary.SELECT + "WHERE p.boardId = :boardId AND " +
+            "(p.fixed < :fixed OR (p.fixed = :fixed AND p.id < :id)) " +
+            "ORDER BY p.fixed DESC, p.id DESC")
+    List<PostSummary> findByBoardIdAfter(@Param("boardId") Long boardId,
+                                        @Param("fixed") Short fixed,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 키셋 페이징 - 게시판 목록 커서 이전 (역순으로 조회)
+    @Query(PostSummary.SELECT + "WHERE p.boardId = :boardId AND " +
+            "(p.fixed > :fixed OR (p.fixed = :fixed AND p.id > :id)) " +
+            "ORDER BY p.fixed ASC, p.id ASC")
+    List<PostSummary> findByBoardIdBefore(@Param("boardId") Long boardId,
+                                         @Param("fixed") Short fixed,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    // 메인 피드 (OFFSET 페이징, 공지 게시판 제외 - 제외할 게시판이 없으면 null)
+    @Query(PostSummary.SELECT +
+            "WHERE (:excludedBoardId IS NULL OR p.boardId <> :excludedBoardId)")
+    List<PostSummary> findFeed(@Param("excludedBoardId") Long excludedBoardId, Pageable pageable);
+
+    // 키셋 페이징 - 메인 피드 (views DESC, id DESC, 공지 게시판 제외) 커서 이후
+    @Query(PostSummary.SELECT + "WHERE " +
+            "(s.views < :views OR (s.views = :views AND p.id < :id)) " +
+            "AND (:excludedBoardId IS NULL OR p.boardId <> :excludedBoardId) " +
+            "ORDER BY s.views DESC, p.id DESC")
+    List<PostSummary> findFeedAfter(@Param("excludedBoardId") Long excludedBoardId,
+                                   @Param("views") Integer views,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    // 키셋 페이징 - 메인 피드 커서 이전 (역순으로 조회)
+    @Query(PostSummary.SELECT + "WHERE " +
+            "(s.views > :views OR (s.views = :views AND p.id > :id)) " +
+            "AND (:excludedBoardId IS NULL OR p.boardId <> :excludedBoardId) " +
+            "ORDER BY s.views ASC, p.id ASC")
+    List<PostSummary> findFeedBefore(@Param("excludedBoardId") Long excludedBoardId,
+                                    @Param("views") Integer views,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    // 조건부 GET 검증값 (본문 없이 수정 시각 / 카운터 / 게시판 변경 시각)
+    @Query(PostVersion.SELECT + "WHERE p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+}
@@ -0,0 +1,89 @@
+package com.example.community.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * posts 카운터 컬럼 -> post_stats 이전
+ *
+ * 예전 posts 테이블의 view_count / likes_count / comments_count 값을 post_stats로 복사한다
+ * - 옛 컬럼이 남아 있을 때만 실행 (새 DB에서는 메타데이터 조회 1회로 끝남)
+ * - post_stats 행이 없는 게시글만 복사하므로 여러 번 실행해도 같은 결과
+ * - 옛 컬럼은 지우지 않는다 (이전 버전으로 되돌려 배포해도 기동되도록)
+ *   새 게시글은 옛 컬럼에 값을 넣지 않으므로 기본값 0만 붙여 둔다
+ *   컬럼 삭제는 post_stats 값을 확인한 뒤 별도로 실행 (docs/specs/community.sql 참고)
+ * - 테이블이 만들어진 뒤(EntityManagerFactory), 요청을 받기 전에 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostStatsMigration {
+
+    private static final List<String> LEGACY_COLUMNS = List.of("view_count", "likes_count", "comments_count");
+
+    private final JdbcTemplate jdbcTemplate;
+    // 테이블 생성(ddl-auto) 이후에 실행되도록
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void migrate() {
+        // 남아 있는 옛 컬럼 -> 기본값 (없으면 null)
+        Map<String, String> legacyColumns = findLegacyColumns();
+        if (legacyColumns.isEmpty()) {
+            return;
+        }
+
+        // 옛 컬럼 값 복사 (없는 컬럼은 0)
+        String counters = LEGACY_COLUMNS.stream()
+                .map(column -> legacyColumns.containsKey(column) ? "COALESCE(p." + column + ", 0)" : "0")
+                .collect(Collectors.joining(", "));
+
+        int copied = jdbcTemplate.update(
+                "INSERT INTO post_stats (post_id, views, likes, comments) " +
+                "SELECT p.id, " + counters + " FROM posts p " +
+                "WHERE NOT EXISTS (SELECT 1 FROM post_stats s WHERE s.post_id = p.id)");
+
+        // 엔티티에서 빠진 NOT NULL 컬럼이라 기본값이 없으면 새 게시글 INSERT가 실패한다
+        legacyColumns.forEach((column, defaultValue) -> {
+            if (defaultValue == null) {
+                jdbcTemplate.execute("ALTER TABLE posts ALTER COLUMN " + column + " SET DEFAULT 0");
+            }
+        });
+
+        if (copied > 0) {
+            log.info("POST STATS MIGRATION: copied={}, legacyColumns={}", copied, legacyColumns.keySet());
+        }
+    }
+
+    // JDBC 메타데이터로 조회 (DB마다 다른 INFORMATION_SCHEMA 쿼리를 쓰지 않도록)
+    private Map<String, String> findLegacyColumns() {
+        return jdbcTemplate.execute((ConnectionCallback<Map<String, String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? "POSTS" : "posts";
+
+            Map<String, String> columns = new HashMap<>();
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, null)) {
+                while (rs.next()) {
+                    String column = rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT);
+                    if (LEGACY_COLUMNS.contains(column)) {
+                        columns.put(column, rs.getString("COLUMN_DEF"));
+                    }
+                }
+            }
+            return columns;
+        });
+    }
+}
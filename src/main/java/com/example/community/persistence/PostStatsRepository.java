@@ -0,0 +1,67 @@
+package com.example.community.persistence;
+
+import com.example.community.domain.post.PostStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface PostStatsRepository extends JpaRepository<PostStatsEntity, Long> {
+
+    /**
+     * 조회수 일괄 증가
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PostStatsEntity s SET s.views = s.views + :delta WHERE s.postId IN :postIds")
+    int increaseViews(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+
+    /**
+     * 좋아요 수 증감 (읽고 쓰지 않고 DB에서 바로 더함)
+     * @return 갱신된 행 수 (게시글이 없으면 0)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PostStatsEntity s SET s.likes = s.likes + :delta WHERE s.postId = :postId")
+    int addLikes(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 댓글 수 증감 (증감분을 그대로 더함 - 0 미만 처리는 화면 표시 때만, PostCounter.displayed)
+     * @return 갱신된 행 수 (게시글이 없으면 0)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PostStatsEntity s SET s.comments = s.comments + :delta WHERE s.postId = :postId")
+    int addComments(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 삭제된 게시글의 카운터 행 제거
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PostStatsEntity s WHERE s.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    /**
+     * 조회수만 조회
+     */
+    @Query("SELECT s.views FROM PostStatsEntity s WHERE s.postId = :postId")
+    Optional<Integer> findViewsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 댓글 수만 조회
+     */
+    @Query("SELECT s.comments FROM PostStatsEntity s WHERE s.postId = :postId")
+    Optional<Integer> findCommentsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 좋아요 수만 조회
+     */
+    @Query("SELECT s.likes FROM PostStatsEntity s WHERE s.postId = :postId")
+    Optional<Integer> findLikesByPostId(@Param("postId") Long postId);
+}
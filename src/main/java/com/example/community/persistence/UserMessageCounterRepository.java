@@ -0,0 +1,114 @@
+package com.example.community.persistence;
+
+import com.example.community.domain.message.MessageBoxCounts;
+import com.example.community.domain.message.UserMessageCounterEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserMessageCounterRepository extends JpaRepository<UserMessageCounterEntity, Long> {
+
+    // messages에서 다시 세는 식 - 회원 한 명(:userId)
+    String USER_UNREAD = "(SELECT COUNT(*) FROM messages m WHERE m.receiver_id = :userId " +
+            "AND m.is_read = 0 AND m.receiver_delete_state = 0)";
+    String USER_INBOX = "(SELECT COUNT(*) FROM messages m WHERE m.receiver_id = :userId AND m.receiver_delete_state = 0)";
+    String USER_SENT = "(SELECT COUNT(*) FROM messages m WHERE m.sender_id = :userId AND m.sender_delete_state = 0)";
+    String USER_TRASH = "(SELECT COUNT(*) FROM messages m WHERE (m.receiver_id = :userId AND m.receiver_delete_state = 1) " +
+            "OR (m.sender_id = :userId AND m.sender_delete_state = 1))";
+
+    // messages에서 다시 세는 식 - 집계 행마다(c.user_id)
+    String ROW_UNREAD = "(SELECT COUNT(*) FROM messages m WHERE m.receiver_id = c.user_id " +
+            "AND m.is_read = 0 AND m.receiver_delete_state = 0)";
+    String ROW_INBOX = "(SELECT COUNT(*) FROM messages m WHERE m.receiver_id = c.user_id AND m.receiver_delete_state = 0)";
+    String ROW_SENT = "(SELECT COUNT(*) FROM messages m WHERE m.sender_id = c.user_id AND m.sender_delete_state = 0)";
+    String ROW_TRASH = "(SELECT COUNT(*) FROM messages m WHERE (m.receiver_id = c.user_id AND m.receiver_delete_state = 1) " +
+            "OR (m.sender_id = c.user_id AND m.sender_delete_state = 1))";
+
+    /**
+     * 읽지 않은 쪽지 수 (기본 키 조회)
+     */
+    @Query("SELECT c.unread FROM UserMessageCounterEntity c WHERE c.userId = :userId")
+    Optional<Long> findUnreadByUserId(@Param("userId") Long userId);
+
+    /**
+     * 쪽지함별 전체 건수 (기본 키 조회, 목록 페이징용)
+     */
+    @Query("SELECT c.inbox AS inbox, c.sent AS sent, c.trash AS trash " +
+            "FROM UserMessageCounterEntity c WHERE c.userId = :userId")
+    Optional<MessageBoxCounts> findBoxCountsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 쪽지함 개수 증감 (읽고 쓰지 않고 DB에서 바로 더함, 0 미만으로 내려가지 않음)
+     * 같은 트랜잭션의 쪽지 변경을 먼저 반영한다
+     * @return 갱신된 행 수 (집계 행이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserMessageCounterEntity c SET " +
+            "c.unread = CASE WHEN c.unread + :unread > 0 THEN c.unread + :unread ELSE 0 END, " +
+            "c.inbox = CASE WHEN c.inbox + :inbox > 0 THEN c.inbox + :inbox ELSE 0 END, " +
+            "c.sent = CASE WHEN c.sent + :sent > 0 THEN c.sent + :sent ELSE 0 END, " +
+            "c.trash = CASE WHEN c.trash + :trash > 0 THEN c.trash + :trash ELSE 0 END " +
+            "WHERE c.userId = :userId")
+    int add(@Param("userId") Long userId, @Param("unread") long unread, @Param("inbox") long inbox,
+            @Param("sent") long sent, @Param("trash") long trash);
+
+    /**
+     * 집계 행이 없는 회원의 행을 messages에서 세어 만든다 (이미 있으면 무시)
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO user_message_counters (user_id, unread, inbox, sent, trash) " +
+            "SELECT u.id, " + USER_UNREAD + ", " + USER_INBOX + ", " + USER_SENT + ", " + USER_TRASH + " " +
+            "FROM users u WHERE u.id = :userId", nativeQuery = true)
+    int insertRecounted(@Param("userId") Long userId);
+
+    /**
+     * 집계 행 잠금 (다시 세는 동안 같은 회원의 쪽지 변경이 끼어들지 않도록)
+     */
+    @Query(value = "SELECT user_id FROM user_message_counters WHERE user_id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockByUserId(@Param("userId") Long userId);
+
+    /**
+     * 집계 행을 messages에서 다시 센 값으로 덮어쓴다
+     * @return 갱신된 행 수 (값이 맞으면 0)
+     */
+    @Modifying
+    @Query(value = "UPDATE user_message_counters c SET c.unread = " + ROW_UNREAD + ", c.inbox = " + ROW_INBOX + ", " +
+            "c.sent = " + ROW_SENT + ", c.trash = " + ROW_TRASH + " WHERE c.user_id = :userId " +
+            "AND (c.unread <> " + ROW_UNREAD + " OR c.inbox <> " + ROW_INBOX + " " +
+            "OR c.sent <> " + ROW_SENT + " OR c.trash <> " + ROW_TRASH + ")", nativeQuery = true)
+    int recount(@Param("userId") Long userId);
+
+    /**
+     * 집계 값이 messages와 어긋난 회원 ID (진행 중인 트랜잭션 때문에 잠시 어긋난 회원도 포함될 수 있음)
+     */
+    @Query(value = "SELECT c.user_id FROM user_message_counters c " +
+            "WHERE c.unread <> " + ROW_UNREAD + " OR c.inbox <> " + ROW_INBOX + " " +
+            "OR c.sent <> " + ROW_SENT + " OR c.trash <> " + ROW_TRASH, nativeQuery = true)
+    List<Long> findDriftedUserIds();
+
+    /**
+     * 쪽지가 있는데 집계 행이 없는 회원의 행을 만든다 (쪽지 변경 쪽과 동시에 만들어도 INSERT IGNORE로 하나만 남음)
+     * @return 추가된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_message_counters (user_id, unread, inbox, sent, trash) " +
+            "SELECT c.user_id, " + ROW_UNREAD + ", " + ROW_INBOX + ", " + ROW_SENT + ", " + ROW_TRASH + " " +
+            "FROM (SELECT u.id AS user_id FROM users u " +
+            "WHERE NOT EXISTS (SELECT 1 FROM user_message_counters x WHERE x.user_id = u.id) " +
+            "AND (EXISTS (SELECT 1 FROM messages m WHERE m.receiver_id = u.id) " +
+            "OR EXISTS (SELECT 1 FROM messages m WHERE m.sender_id = u.id))) c", nativeQuery = true)
+    int insertMissing();
+
+    /**
+     * 탈퇴한 회원의 집계 행 제거
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_message_counters c WHERE NOT EXISTS (SELECT 1 FROM users u WHERE u.id = c.user_id)",
+            nativeQuery = true)
+    int deleteOrphans();
+}
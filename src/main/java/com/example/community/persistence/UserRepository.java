@@ -1,13 +1,20 @@
 package com.example.community.persistence;
 
 import com.example.community.domain.user.UserEntity;
+import com.example.community.domain.user.UserNickname;
 import com.example.community.domain.user.UserRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import javax.swing.text.html.Option;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     //중복 체크
@@ -50,4 +57,29 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      */
     long countByRole(UserRole role);
 
+    /**
+     * 닉네임 일괄 조회 (IN 쿼리 1회)
+     */
+    @Query("SELECT u.id AS id, u.nickname AS nickname FROM UserEntity u WHERE u.id IN :ids")
+    List<UserNickname> findNicknamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 회원 ID -> 닉네임 맵 (목록의 작성자 표시용)
+     */
+    default Map<Long, String> findNicknameMap(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return findNicknamesByIdIn(ids).stream()
+                .collect(Collectors.toMap(UserNickname::getId, UserNickname::getNickname));
+    }
+
+    // 아이디로 회원 ID만 조회
+    @Query("SELECT u.id FROM UserEntity u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    // 닉네임 부분 일치 회원 ID (댓글 작성자 검색)
+    @Query("SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%")
+    List<Long> findIdsByNicknameContaining(@Param("keyword") String keyword);
 }
@@ -0,0 +1,300 @@
+package com.example.community.search;
+
+import com.example.community.domain.comment.CommentSearchRow;
+import com.example.community.persistence.CommentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 댓글 검색 색인 (메모리)
+ *
+ * - 댓글 내용 색인: 댓글 단위 n-gram 역색인, 검색 결과는 게시글 ID로 묶는다 (댓글 점수 합)
+ * - 댓글 작성자 색인: 회원 ID -> 댓글을 단 게시글 ID
+ * 댓글 검색이 comments 테이블 조인 없이 색인 조회 + 게시글 ID 조회로 끝나도록 한다
+ */
+@Component
+@Slf4j
+public class CommentSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final CommentRepository commentRepository;
+    private final NGramTokenizer tokenizer;
+    private final TransactionTemplate resyncTemplate;
+
+    private final InvertedIndex contentIndex = new InvertedIndex();
+    // 댓글 ID -> 게시글/게시판/작성자
+    private final Map<Long, CommentRef> comments = new HashMap<>();
+    // 작성자 ID -> (게시글 ID -> 댓글 수)
+    private final Map<Long, Map<Long, Integer>> postsByAuthor = new HashMap<>();
+    // 게시글 ID -> 게시판 ID (작성자 검색의 게시판 필터)
+    private final Map<Long, Long> boardByPost = new HashMap<>();
+    // 게시글 ID -> 댓글 ID (게시글 삭제 시 그 게시글의 댓글만 제거)
+    private final Map<Long, Set<Long>> commentsByPost = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    public CommentSearchIndex(CommentRepository commentRepository,
+                              NGramTokenizer tokenizer,
+                              PlatformTransactionManager transactionManager) {
+        this.commentRepository = commentRepository;
+        this.tokenizer = tokenizer;
+
+        // 롤백 후 재동기화는 원래 트랜잭션과 분리해서 실행
+        this.resyncTemplate = new TransactionTemplate(transactionManager);
+        this.resyncTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.resyncTemplate.setReadOnly(true);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 댓글 내용을 색인으로 검색할 수 있는지 (색인 준비 완료 + 2글자 이상 검색어)
+     */
+    public boolean canSearchContent(String keyword) {
+        return ready && !tokenizer.tokenizeQuery(keyword).isEmpty();
+    }
+
+    /**
+     * comments 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        ready = false;
+
+        lock.writeLock().lock();
+        try {
+            contentIndex.clear();
+            comments.clear();
+            postsByAuthor.clear();
+            boardByPost.clear();
+            commentsByPost.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long lastId = 0;
+        int count = 0;
+        while (true) {
+            List<CommentSearchRow> rows = commentRepository.findSearchRows(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            rows.forEach(this::put);
+            count += rows.size();
+
+            if (rows.size() < REBUILD_BATCH_SIZE) break;
+            lastId = rows.get(rows.size() - 1).getId();
+        }
+
+        ready = true;
+        log.info("COMMENT SEARCH INDEX REBUILD: comments={}, elapsed={}ms",
+                count, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 댓글 색인 (작성/수정)
+     */
+    public void index(Long commentId, Long postId, Long boardId, Long userId, String content) {
+        put(commentId, postId, boardId, userId, content);
+        resyncOnRollback(() -> resyncComment(commentId));
+    }
+
+    /**
+     * 댓글 색인 제거 (삭제)
+     */
+    public void remove(Long commentId) {
+        delete(commentId);
+        resyncOnRollback(() -> resyncComment(commentId));
+    }
+
+    /**
+     * 게시글의 댓글 색인 전체 제거 (게시글 삭제)
+     */
+    public void removePost(Long postId) {
+        deletePost(postId);
+        resyncOnRollback(() -> resyncPost(postId));
+    }
+
+    /**
+     * 댓글 내용 검색
+     * @param keyword 검색어
+     * @param boardId 게시판 ID (null이면 전체)
+     * @return 점수 내림차순 게시글 ID
+     */
+    public List<Long> searchContent(String keyword, Long boardId) {
+        List<String> terms = tokenizer.tokenizeQuery(keyword);
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> postScores = new HashMap<>();
+
+            contentIndex.search(terms, commentId -> boardId == null || boardId.equals(comments.get(commentId).boardId()))
+                    .forEach((commentId, score) ->
+                            postScores.merge(comments.get(commentId).postId(), score, Double::sum));
+
+            return postScores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 댓글 작성자 검색
+     * @param userIds 작성자 ID 목록
+     * @param boardId 게시판 ID (null이면 전체)
+     * @return 최신순 게시글 ID
+     */
+    public List<Long> searchByAuthors(Collection<Long> userIds, Long boardId) {
+        lock.readLock().lock();
+        try {
+            Set<Long> postIds = new HashSet<>();
+
+            for (Long userId : userIds) {
+                postIds.addAll(postsByAuthor.getOrDefault(userId, Map.of()).keySet());
+            }
+
+            if (boardId != null) {
+                postIds.removeIf(postId -> !boardId.equals(boardByPost.get(postId)));
+            }
+
+            return postIds.stream()
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(CommentSearchRow row) {
+        put(row.getId(), row.getPostId(), row.getBoardId(), row.getUserId(), row.getContent());
+    }
+
+    private void put(Long commentId, Long postId, Long boardId, Long userId, String content) {
+        // 토큰화는 잠금 밖에서
+        List<String> tokens = tokenizer.tokenize(content);
+
+        lock.writeLock().lock();
+        try {
+            deleteLocked(commentId);
+
+            contentIndex.put(commentId, tokens);
+            comments.put(commentId, new CommentRef(postId, boardId, userId));
+            postsByAuthor.computeIfAbsent(userId, id -> new HashMap<>()).merge(postId, 1, Integer::sum);
+            boardByPost.put(postId, boardId);
+            commentsByPost.computeIfAbsent(postId, id -> new HashSet<>()).add(commentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(Long commentId) {
+        lock.writeLock().lock();
+        try {
+            deleteLocked(commentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void deletePost(Long postId) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> commentIds = commentsByPost.remove(postId);
+            if (commentIds != null) {
+                commentIds.forEach(this::deleteLocked);
+            }
+            boardByPost.remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void deleteLocked(Long commentId) {
+        CommentRef ref = comments.remove(commentId);
+        if (ref == null) {
+            return;
+        }
+
+        contentIndex.remove(commentId);
+
+        Set<Long> postComments = commentsByPost.get(ref.postId());
+        if (postComments != null) {
+            postComments.remove(commentId);
+            if (postComments.isEmpty()) {
+                commentsByPost.remove(ref.postId());
+            }
+        }
+
+        Map<Long, Integer> postCounts = postsByAuthor.get(ref.userId());
+        if (postCounts != null) {
+            postCounts.computeIfPresent(ref.postId(), (postId, count) -> count > 1 ? count - 1 : null);
+            if (postCounts.isEmpty()) {
+                postsByAuthor.remove(ref.userId());
+            }
+        }
+    }
+
+    // 트랜잭션이 커밋되지 않으면 DB 상태로 다시 색인
+    private void resyncOnRollback(Runnable resync) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    resync.run();
+                }
+            }
+        });
+    }
+
+    private void resyncComment(Long commentId) {
+        try {
+            resyncTemplate.executeWithoutResult(status -> commentRepository.findSearchRowById(commentId)
+                    .ifPresentOrElse(this::put, () -> delete(commentId)));
+        } catch (RuntimeException e) {
+            log.warn("COMMENT SEARCH INDEX RESYNC FAILED: commentId={}, reason={}", commentId, e.getMessage());
+            delete(commentId);
+        }
+    }
+
+    private void resyncPost(Long postId) {
+        try {
+            resyncTemplate.executeWithoutResult(status -> {
+                deletePost(postId);
+                commentRepository.findSearchRowsByPostId(postId).forEach(this::put);
+            });
+        } catch (RuntimeException e) {
+            log.warn("COMMENT SEARCH INDEX RESYNC FAILED: postId={}, reason={}", postId, e.getMessage());
+        }
+    }
+
+    private record CommentRef(long postId, long boardId, long userId) {
+    }
+}
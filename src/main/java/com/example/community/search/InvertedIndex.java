@@ -0,0 +1,130 @@
+package com.example.community.search;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * 역색인 (단어 -> 문서 목록) + BM25 점수 계산
+ *
+ * 스레드 안전하지 않음 - 사용하는 쪽에서 읽기/쓰기 잠금으로 감싼다
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // 문서 ID -> 포함된 단어 목록 / 문서 길이 (삭제, 길이 보정용)
+    private final Map<Long, DocEntry> docs = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * 문서 색인 (이미 있으면 교체)
+     */
+    public void put(long docId, List<String> tokens) {
+        remove(docId);
+
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> termFreqs = new HashMap<>();
+        tokens.forEach(token -> termFreqs.merge(token, 1, Integer::sum));
+
+        termFreqs.forEach((term, freq) ->
+                postings.computeIfAbsent(term, t -> new PostingList()).put(docId, freq));
+
+        docs.put(docId, new DocEntry(termFreqs.keySet().toArray(String[]::new), tokens.size()));
+        totalLength += tokens.size();
+    }
+
+    /**
+     * 문서 제거
+     */
+    public void remove(long docId) {
+        DocEntry entry = docs.remove(docId);
+        if (entry == null) {
+            return;
+        }
+
+        for (String term : entry.terms()) {
+            PostingList postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(docId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= entry.length();
+    }
+
+    public void clear() {
+        postings.clear();
+        docs.clear();
+        totalLength = 0;
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    /**
+     * 모든 검색 단어를 포함하는 문서의 BM25 점수
+     * @param terms 검색 단어 (중복 없음)
+     * @param filter 문서 ID 조건 (게시판 등)
+     * @return 문서 ID -> 점수
+     */
+    public Map<Long, Double> search(Collection<String> terms, LongPredicate filter) {
+        Map<Long, Double> scores = new HashMap<>();
+        if (terms.isEmpty() || docs.isEmpty()) {
+            return scores;
+        }
+
+        // 문서 수가 적은 단어부터 (첫 목록이 후보 집합)
+        List<PostingList> lists = terms.stream()
+                .map(postings::get)
+                .toList();
+        if (lists.contains(null)) {
+            return scores;
+        }
+        lists = lists.stream()
+                .sorted(Comparator.comparingInt(PostingList::size))
+                .toList();
+
+        double docCount = docs.size();
+        double avgLength = (double) totalLength / docs.size();
+        double[] idf = lists.stream()
+                .mapToDouble(list -> Math.log(1 + (docCount - list.size() + 0.5) / (list.size() + 0.5)))
+                .toArray();
+
+        PostingList first = lists.get(0);
+        candidates:
+        for (int i = 0; i < first.size(); i++) {
+            long docId = first.docId(i);
+            if (!filter.test(docId)) {
+                continue;
+            }
+
+            double norm = K1 * (1 - B + B * docs.get(docId).length() / avgLength);
+            double score = 0;
+
+            for (int t = 0; t < lists.size(); t++) {
+                int freq = (t == 0) ? first.freqAt(i) : lists.get(t).freq(docId);
+                if (freq == 0) {
+                    continue candidates;
+                }
+                score += idf[t] * freq * (K1 + 1) / (freq + norm);
+            }
+            scores.put(docId, score);
+        }
+        return scores;
+    }
+
+    private record DocEntry(String[] terms, int length) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.community.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색용 n-gram 토크나이저
+ *
+ * 한글은 띄어쓰기 단위 토큰화로는 부분 검색이 안 되므로 글자 단위 n-gram을 만든다
+ * - 정규화: NFKC + 소문자
+ * - 글자/숫자가 아닌 문자를 기준으로 덩어리(run)를 나누고, 덩어리마다 n-gram 생성
+ * - 색인: 2-gram ~ maxGram-gram 모두 생성 (짧은 검색어도 찾을 수 있도록)
+ * - 검색어: 덩어리 길이에 맞는 가장 긴 n-gram만 사용 (후보를 더 좁게)
+ * - n-gram이 모두 들어있어도 검색어가 이어져 있다는 보장은 없으므로, 후보는 normalize()한 원문으로 다시 확인한다
+ */
+@Component
+public class NGramTokenizer {
+
+    private static final int MIN_GRAM = 2;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int maxGram;
+
+    public NGramTokenizer(@Value("${community.search.ngram-size:2}") int maxGram) {
+        this.maxGram = Math.max(MIN_GRAM, maxGram);
+    }
+
+    /**
+     * 색인용 토큰 (중복 포함, 문서 길이 계산에 사용)
+     */
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        for (String run : runs(text)) {
+            for (int n = MIN_GRAM; n <= maxGram; n++) {
+                addGrams(run, n, tokens);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰 (중복 제거)
+     * 2글자 미만 덩어리만 있는 검색어는 빈 목록 (색인으로 처리할 수 없음)
+     */
+    public List<String> tokenizeQuery(String keyword) {
+        LinkedHashSet<String> terms = new LinkedHashSet<>();
+
+        for (String run : runs(keyword)) {
+            List<String> grams = new ArrayList<>();
+            addGrams(run, Math.min(maxGram, run.length()), grams);
+            terms.addAll(grams);
+        }
+        return List.copyOf(terms);
+    }
+
+    /**
+     * 검색어 일치 확인용 정규화 (NFKC + 소문자, 연속 공백은 한 칸)
+     * 색인된 원문과 검색어에 같은 규칙을 적용해 contains로 비교한다
+     */
+    public String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").strip();
+    }
+
+    private void addGrams(String run, int n, List<String> out) {
+        if (n < MIN_GRAM || run.length() < n) {
+            return;
+        }
+        for (int i = 0; i + n <= run.length(); i++) {
+            out.add(run.substring(i, i + n));
+        }
+    }
+
+    private List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return runs;
+        }
+
+        String normalized = normalize(text);
+
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                runs.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            runs.add(normalized.substring(start));
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.community.search;
+
+import com.example.community.domain.post.PostEntity;
+import com.example.community.persistence.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 게시글 제목/내용 전문 검색 색인 (메모리)
+ *
+ * - 시작 시 posts 전체를 읽어 색인 생성
+ * - PostServiceImpl의 작성/수정/삭제 시 해당 게시글만 갱신
+ * - 트랜잭션이 롤백되면 해당 게시글을 DB 상태로 다시 맞춘다
+ * - 검색 결과는 BM25 점수 내림차순 게시글 ID 목록 (화면 데이터는 DB에서 ID로 조회)
+ * - n-gram 후보 중 정규화한 제목/내용에 검색어가 그대로(이어서) 들어있는 게시글만 돌려준다 (LIKE 검색과 같은 결과)
+ */
+@Component
+@Slf4j
+public class PostSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    // 제목 일치 가중치 (제목+내용 검색)
+    private static final double TITLE_BOOST = 2.0;
+
+    private final PostRepository postRepository;
+    private final NGramTokenizer tokenizer;
+    private final TransactionTemplate resyncTemplate;
+
+    private final InvertedIndex titleIndex = new InvertedIndex();
+    private final InvertedIndex contentIndex = new InvertedIndex();
+    // 게시글 ID -> 게시판 ID (게시판 내 검색 필터)
+    private final Map<Long, Long> boardByPost = new HashMap<>();
+    // 게시글 ID -> 정규화한 제목/내용 (n-gram 후보의 검색어 일치 확인)
+    private final Map<Long, String> titleText = new HashMap<>();
+    private final Map<Long, String> contentText = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    public PostSearchIndex(PostRepository postRepository,
+                           NGramTokenizer tokenizer,
+                           PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.tokenizer = tokenizer;
+
+        // 롤백 후 재동기화는 원래 트랜잭션과 분리해서 실행
+        this.resyncTemplate = new TransactionTemplate(transactionManager);
+        this.resyncTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.resyncTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 색인으로 검색할 수 있는지 (색인 준비 완료 + 2글자 이상 검색어)
+     */
+    public boolean canSearch(String keyword) {
+        return ready && !tokenizer.tokenizeQuery(keyword).isEmpty();
+    }
+
+    /**
+     * posts 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        ready = false;
+
+        lock.writeLock().lock();
+        try {
+            titleIndex.clear();
+            contentIndex.clear();
+            boardByPost.clear();
+            titleText.clear();
+            contentText.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Page<PostEntity> page = postRepository.findAll(PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id")));
+        while (true) {
+            page.getContent().forEach(this::put);
+            if (!page.hasNext()) break;
+            page = postRepository.findAll(page.nextPageable());
+        }
+
+        ready = true;
+        log.info("POST SEARCH INDEX REBUILD: posts={}, elapsed={}ms",
+                boardByPost.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 게시글 색인 (작성/수정)
+     */
+    public void index(PostEntity postEntity) {
+        put(postEntity);
+        resyncOnRollback(postEntity.getId());
+    }
+
+    /**
+     * 게시글 색인 제거 (삭제)
+     */
+    public void remove(Long postId) {
+        delete(postId);
+        resyncOnRollback(postId);
+    }
+
+    /**
+     * 검색
+     * @param field 검색 대상
+     * @param keyword 검색어
+     * @param boardId 게시판 ID (null이면 전체)
+     * @return 점수 내림차순 게시글 ID
+     */
+    public List<Long> search(SearchField field, String keyword, Long boardId) {
+        List<String> terms = tokenizer.tokenizeQuery(keyword);
+        String phrase = tokenizer.normalize(keyword);
+
+        lock.readLock().lock();
+        try {
+            LongPredicate filter = boardId == null
+                    ? postId -> true
+                    : postId -> boardId.equals(boardByPost.get(postId));
+            // n-gram이 흩어져 있는 후보 제외 (검색어가 이어서 들어있어야 함)
+            LongPredicate inTitle = filter.and(postId -> titleText.getOrDefault(postId, "").contains(phrase));
+            LongPredicate inContent = filter.and(postId -> contentText.getOrDefault(postId, "").contains(phrase));
+
+            Map<Long, Double> scores = switch (field) {
+                case TITLE -> titleIndex.search(terms, inTitle);
+                case CONTENT -> contentIndex.search(terms, inContent);
+                case TITLE_CONTENT -> {
+                    Map<Long, Double> merged = contentIndex.search(terms, inContent);
+                    titleIndex.search(terms, inTitle)
+                            .forEach((postId, score) -> merged.merge(postId, score * TITLE_BOOST, Double::sum));
+                    yield merged;
+                }
+            };
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(PostEntity postEntity) {
+        // 토큰화는 잠금 밖에서
+        List<String> titleTokens = tokenizer.tokenize(postEntity.getTitle());
+        List<String> contentTokens = tokenizer.tokenize(postEntity.getContent());
+        String title = tokenizer.normalize(postEntity.getTitle());
+        String content = tokenizer.normalize(postEntity.getContent());
+
+        lock.writeLock().lock();
+        try {
+            titleIndex.put(postEntity.getId(), titleTokens);
+            contentIndex.put(postEntity.getId(), contentTokens);
+            boardByPost.put(postEntity.getId(), postEntity.getBoardId());
+            titleText.put(postEntity.getId(), title);
+            contentText.put(postEntity.getId(), content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(Long postId) {
+        lock.writeLock().lock();
+        try {
+            titleIndex.remove(postId);
+            contentIndex.remove(postId);
+            boardByPost.remove(postId);
+            titleText.remove(postId);
+            contentText.remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 트랜잭션이 커밋되지 않으면 DB 상태로 다시 색인
+    private void resyncOnRollback(Long postId) {
+        if (postId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    resync(postId);
+                }
+            }
+        });
+    }
+
+    private void resync(Long postId) {
+        try {
+            PostEntity postEntity = resyncTemplate.execute(status -> postRepository.findById(postId).orElse(null));
+            if (postEntity != null) {
+                put(postEntity);
+            } else {
+                delete(postId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("POST SEARCH INDEX RESYNC FAILED: postId={}, reason={}", postId, e.getMessage());
+            delete(postId);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.community.search;
+
+import java.util.Arrays;
+
+/**
+ * 단어 하나의 문서 목록 (문서 ID 오름차순 + 단어 빈도)
+ * 박싱 없이 원시 배열로 유지한다
+ */
+final class PostingList {
+
+    private long[] docIds = new long[4];
+    private int[] freqs = new int[4];
+    private int size;
+
+    void put(long docId, int freq) {
+        int index = Arrays.binarySearch(docIds, 0, size, docId);
+        if (index >= 0) {
+            freqs[index] = freq;
+            return;
+        }
+
+        index = -index - 1;
+        if (size == docIds.length) {
+            docIds = Arrays.copyOf(docIds, size * 2);
+            freqs = Arrays.copyOf(freqs, size * 2);
+        }
+        System.arraycopy(docIds, index, docIds, index + 1, size - index);
+        System.arraycopy(freqs, index, freqs, index + 1, size - index);
+        docIds[index] = docId;
+        freqs[index] = freq;
+        size++;
+    }
+
+    void remove(long docId) {
+        int index = Arrays.binarySearch(docIds, 0, size, docId);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(docIds, index + 1, docIds, index, size - index - 1);
+        System.arraycopy(freqs, index + 1, freqs, index, size - index - 1);
+        size--;
+    }
+
+    int freq(long docId) {
+        int index = Arrays.binarySearch(docIds, 0, size, docId);
+        return index >= 0 ? freqs[index] : 0;
+    }
+
+    long docId(int index) {
+        return docIds[index];
+    }
+
+    int freqAt(int index) {
+        return freqs[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
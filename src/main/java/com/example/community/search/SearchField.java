@@ -0,0 +1,28 @@
+package com.example.community.search;
+
+import java.util.Optional;
+
+/**
+ * 색인으로 처리하는 검색 대상
+ */
+public enum SearchField {
+    TITLE,
+    CONTENT,
+    TITLE_CONTENT;
+
+    /**
+     * 화면의 searchType 값 -> 검색 대상 (색인 대상이 아니면 empty)
+     */
+    public static Optional<SearchField> from(String searchType) {
+        if (searchType == null) {
+            return Optional.of(TITLE_CONTENT);
+        }
+
+        return switch (searchType) {
+            case "title" -> Optional.of(TITLE);
+            case "content" -> Optional.of(CONTENT);
+            case "titleContent", "" -> Optional.of(TITLE_CONTENT);
+            default -> Optional.empty();
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.community.service;
+
+import com.example.community.domain.board.BoardDto;
+import com.example.community.persistence.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판 목록 스냅샷 (애플리케이션 전역)
+ *
+ * 게시판 목록은 거의 바뀌지 않으므로 boards 전체를 한 번 읽어 불변 스냅샷으로 들고 있는다
+ * - 게시판 생성/수정/삭제 시 invalidate() -> 다음 조회 때 새 스냅샷을 만들어 통째로 교체
+ * - 스냅샷마다 세대(generation) 번호를 붙여, 다시 만드는 도중 변경이 생기면 다음 조회 때 한 번 더 만든다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardCatalog {
+
+    public static final String NOTICE_CATEGORY = "NOTICE";
+
+    private final BoardRepository boardRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    /**
+     * 전체 게시판
+     */
+    public List<BoardDto> getAll() {
+        return current().all();
+    }
+
+    /**
+     * 공지 게시판 (category = NOTICE)
+     */
+    public List<BoardDto> getNoticeBoards() {
+        return current().notices();
+    }
+
+    /**
+     * 일반 게시판 (category가 없거나 NOTICE가 아닌 게시판)
+     */
+    public List<BoardDto> getGeneralBoards() {
+        return current().generals();
+    }
+
+    /**
+     * 현재 스냅샷 세대 (게시판 생성/수정/삭제 시 바뀜)
+     * 게시판 이름/사이드바를 그리는 화면의 검증값(ETag)에 사용
+     */
+    public long getGeneration() {
+        return current().generation();
+    }
+
+    public Optional<BoardDto> get(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    /**
+     * 스냅샷 무효화
+     * 트랜잭션 안에서 호출되면 커밋/롤백 후에도 한 번 더 무효화 (커밋 전 상태가 스냅샷에 남지 않도록)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == generation.get()) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    private synchronized Snapshot rebuild() {
+        long target = generation.get();
+
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == target) {
+            return current;
+        }
+
+        List<BoardDto> all = boardRepository.findAll().stream()
+                .map(BoardDto::from)
+                .toList();
+
+        Snapshot rebuilt = new Snapshot(target,
+                all,
+                all.stream().filter(b -> NOTICE_CATEGORY.equals(b.getCategory())).toList(),
+                all.stream().filter(b -> !NOTICE_CATEGORY.equals(b.getCategory())).toList(),
+                all.stream().collect(Collectors.toUnmodifiableMap(BoardDto::getId, Function.identity())));
+
+        snapshot = rebuilt;
+        log.info("BOARD CATALOG REBUILD: generation={}, size={}", target, all.size());
+        return rebuilt;
+    }
+
+    private record Snapshot(long generation,
+                            List<BoardDto> all,
+                            List<BoardDto> notices,
+                            List<BoardDto> generals,
+                            Map<Long, BoardDto> byId) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.community.service;
+
+import com.example.community.domain.board.BoardEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * BoardEntity 변경 시 게시판 스냅샷 무효화
+ * 서비스를 거치지 않고 리포지토리로 직접 저장/삭제하는 경우도 반영된다
+ */
+public class BoardCatalogListener {
+
+    private final ObjectProvider<BoardCatalog> boardCatalog;
+
+    public BoardCatalogListener(ObjectProvider<BoardCatalog> boardCatalog) {
+        this.boardCatalog = boardCatalog;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(BoardEntity boardEntity) {
+        boardCatalog.ifAvailable(BoardCatalog::invalidate);
+    }
+}
@@ -25,5 +25,11 @@ public interface BoardService {
     // 공지 게시판 목록 조회
     List<BoardDto> getNoticeBoardList();
 
+    // 일반 게시판 목록 조회 (공지 제외)
+    List<BoardDto> getGeneralBoardList();
+
     List<BoardDto> getByIds(List<Long> ids);
+
+    // 게시판 목록 세대 (게시판 생성/수정/삭제 시 바뀜, 목록 화면 ETag용)
+    long getCatalogGeneration();
 }
@@ -2,11 +2,15 @@ package com.example.community.service;
 
 import com.example.community.domain.board.BoardDto;
 import com.example.community.domain.board.BoardEntity;
+import com.example.community.domain.board.BoardStatsEntity;
 import com.example.community.persistence.BoardRepository;
+import com.example.community.persistence.BoardStatsRepository;
+import com.example.community.web.AnonymousPageCache;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,8 +22,12 @@ import java.util.stream.Collectors;
 public class BoardServiceImpl implements BoardService {
 
     private final BoardRepository boardRepository;
+    private final BoardStatsRepository boardStatsRepository;
+    private final BoardCatalog boardCatalog;
+    private final AnonymousPageCache anonymousPageCache;
 
     @Override
+    @Transactional
     public void create(@NotNull BoardDto boardDto) {
         log.info("CREATE: boardDto = {}", boardDto);
 
@@ -34,6 +42,15 @@ public class BoardServiceImpl implements BoardService {
 
         BoardEntity savedEntity = boardRepository.save(BoardEntity.from(boardDto));
 
+        // 게시글 수 집계 행 생성
+        boardStatsRepository.save(BoardStatsEntity.builder()
+                .boardId(savedEntity.getId())
+                .postCount(0L)
+                .build());
+
+        boardCatalog.invalidate();
+
+        anonymousPageCache.invalidateAll();
         boardDto.setId(savedEntity.getId());
     }
 
@@ -59,35 +76,48 @@ public class BoardServiceImpl implements BoardService {
             }
 
             BoardEntity updatedEntity = boardRepository.save(boardEntity.update(boardDto));
+            boardCatalog.invalidate();
+            anonymousPageCache.invalidateAll();
             return BoardDto.from(updatedEntity);
         });
     }
 
     @Override
+    @Transactional
     public boolean delete(@NotNull Long id) {
         log.info("DELETE: id = {}", id);
         return boardRepository.findById(id).map(boardEntity -> {
             boardRepository.delete(boardEntity);
+            // 게시글 수 집계 행도 함께 삭제 (전체 게시글 수 합계에서 빠지도록)
+            boardStatsRepository.deleteByBoardId(id);
+            boardCatalog.invalidate();
+            anonymousPageCache.invalidateAll();
             return true;
         }).orElse(false);
     }
 
+    /**
+     * 전체 게시판 목록 (BoardCatalog 스냅샷)
+     */
     @Override
     public List<BoardDto> getList() {
-        log.info("GET LIST: All Boards");
-
-        return boardRepository.findAll().stream()
-                .map(BoardDto::from)
-                .collect(Collectors.toList());
+        return boardCatalog.getAll();
     }
 
+    /**
+     * 공지 게시판 목록 (BoardCatalog 스냅샷)
+     */
     @Override
     public List<BoardDto> getNoticeBoardList() {
-        log.info("GET NOTICE BOARD LIST");
+        return boardCatalog.getNoticeBoards();
+    }
 
-        return boardRepository.findByCategory("NOTICE").stream()
-                .map(BoardDto::from)
-                .collect(Collectors.toList());
+    /**
+     * 일반 게시판 목록 (BoardCatalog 스냅샷)
+     */
+    @Override
+    public List<BoardDto> getGeneralBoardList() {
+        return boardCatalog.getGeneralBoards();
     }
 
     private void checkTitleAvailability(@NotNull String title) {
@@ -100,8 +130,18 @@ public class BoardServiceImpl implements BoardService {
     public List<BoardDto> getByIds(List<Long> ids) {
         log.info("GET BY IDS: {}", ids);
 
-        return boardRepository.findAllById(ids).stream()
-                .map(BoardDto::from)
+        return ids.stream()
+                .distinct()
+                .map(boardCatalog::get)
+                .flatMap(Optional::stream)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 게시판 목록 세대
+     */
+    @Override
+    public long getCatalogGeneration() {
+        return boardCatalog.getGeneration();
+    }
 }
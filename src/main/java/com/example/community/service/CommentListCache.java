@@ -0,0 +1,262 @@
+package com.example.community.service;
+
+import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.comment.CommentPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글별 댓글 목록 캐시 (애플리케이션 전역)
+ *
+ * 게시글을 볼 때마다 다시 만들던 댓글 페이지(after, limit)와 전체 목록을 게시글 ID별로 들고 있는다
+ * - 댓글 작성/수정/삭제, 게시글 삭제 시 invalidate(postId) -> 해당 게시글의 페이지를 모두 버림
+ * - 닉네임 변경/회원 탈퇴 시 invalidateWriter(userId) -> 그 회원의 댓글이 들어 있는 게시글만 버림
+ * - 버전 규칙은 PostDetailCache와 같다 (마지막 무효화보다 먼저 읽기 시작한 값은 올리지 않음)
+ * - 게시글 수(max-posts)와 캐시된 댓글 수 합(max-comments) 중 하나라도 넘으면 오래 안 읽힌 게시글부터 제거
+ */
+@Component
+@Slf4j
+public class CommentListCache {
+
+    // 무효화 기록 보관 시간 - 그 전에 시작한 조회는 이미 끝났다고 본다
+    private static final long INVALIDATION_RETENTION_MS = 60_000;
+    // 전체 목록(getList) 자리
+    private static final PageKey FULL_LIST = new PageKey(-1L, -1);
+
+    private final int maxPosts;
+    private final long maxComments;
+    private final int maxPagesPerPost;
+
+    // 버전 발급용 (조회 시작/무효화마다 증가)
+    private final AtomicLong clock = new AtomicLong();
+    // 마지막 작성자 단위 무효화 버전 (그 이전에 읽기 시작한 값은 올리지 않음)
+    private final AtomicLong writerFloor = new AtomicLong();
+
+    // 게시글 ID -> 캐시된 댓글 페이지 (접근 순서, lock으로 보호)
+    private final LinkedHashMap<Long, PostComments> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Object lock = new Object();
+    private long weight;
+
+    // 게시글 ID -> 마지막 무효화
+    private final ConcurrentHashMap<Long, Invalidation> invalidations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CommentListCache(@Value("${community.comment-cache.max-posts:1000}") int maxPosts,
+                            @Value("${community.comment-cache.max-comments:50000}") long maxComments,
+                            @Value("${community.comment-cache.max-pages-per-post:8}") int maxPagesPerPost) {
+        this.maxPosts = maxPosts;
+        this.maxComments = maxComments;
+        this.maxPagesPerPost = maxPagesPerPost;
+    }
+
+    /**
+     * DB 조회 직전에 받는 버전
+     * 조회가 끝난 뒤 putPage()/putList()에 그대로 넘긴다
+     */
+    public long nextVersion() {
+        return clock.incrementAndGet();
+    }
+
+    /**
+     * 캐시된 댓글 페이지 (after: 마지막으로 받은 댓글 ID, 첫 페이지는 null)
+     */
+    public Optional<CommentPage> getPage(Long postId, Long after, int size) {
+        return lookup(postId, new PageKey(after, size))
+                .map(page -> new CommentPage(page.content(), page.nextAfter(), page.totalCount()));
+    }
+
+    public void putPage(long version, Long postId, Long after, int size, CommentPage page) {
+        store(version, postId, new PageKey(after, size),
+                new CachedPage(List.copyOf(page.getContent()), page.getNextAfter(), page.getTotalCount()));
+    }
+
+    /**
+     * 캐시된 전체 댓글 목록
+     */
+    public Optional<List<CommentDto>> getList(Long postId) {
+        return lookup(postId, FULL_LIST).map(CachedPage::content);
+    }
+
+    public void putList(long version, Long postId, List<CommentDto> comments) {
+        store(version, postId, FULL_LIST, new CachedPage(List.copyOf(comments), null, comments.size()));
+    }
+
+    /**
+     * 게시글의 댓글이 바뀌었을 때 무효화
+     * 트랜잭션 안에서 호출되면 커밋/롤백 후에도 한 번 더 무효화 (커밋 전 상태가 캐시에 남지 않도록)
+     */
+    public void invalidate(Long postId) {
+        evict(postId);
+        afterCompletion(() -> evict(postId));
+    }
+
+    /**
+     * 회원 닉네임이 바뀌었을 때 무효화 (그 회원의 댓글이 캐시된 게시글만)
+     */
+    public void invalidateWriter(Long userId) {
+        evictWriter(userId);
+        afterCompletion(() -> evictWriter(userId));
+    }
+
+    /**
+     * 캐시 통계 (크기 조정용)
+     */
+    public Stats getStats() {
+        synchronized (lock) {
+            return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), weight);
+        }
+    }
+
+    /**
+     * 오래된 무효화 기록 정리 + 통계 로그
+     */
+    @Scheduled(fixedDelayString = "${community.comment-cache.stats-interval-ms:60000}")
+    public void maintain() {
+        long now = System.currentTimeMillis();
+        invalidations.entrySet().removeIf(entry -> now - entry.getValue().at() > INVALIDATION_RETENTION_MS);
+
+        Stats stats = getStats();
+        if (stats.hits() + stats.misses() > 0) {
+            log.info("COMMENT LIST CACHE: hits={}, misses={}, hitRate={}, evictions={}, posts={}, comments={}",
+                    stats.hits(), stats.misses(), String.format("%.3f", stats.hitRate()),
+                    stats.evictions(), stats.posts(), stats.comments());
+        }
+    }
+
+    private Optional<CachedPage> lookup(Long postId, PageKey key) {
+        CachedPage page;
+        synchronized (lock) {
+            PostComments comments = entries.get(postId);
+            page = comments != null ? comments.pages().get(key) : null;
+        }
+
+        if (page == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(page);
+    }
+
+    private void store(long version, Long postId, PageKey key, CachedPage page) {
+        synchronized (lock) {
+            // 무효화 기록은 lock 밖에서 먼저 남으므로 lock 안에서 확인해야 놓치지 않는다
+            Invalidation invalidation = invalidations.get(postId);
+            if (version <= writerFloor.get() || (invalidation != null && version <= invalidation.version())) {
+                return;
+            }
+
+            PostComments entry = entries.get(postId);
+            if (entry == null) {
+                entry = new PostComments(new HashMap<>(), new HashSet<>());
+                entries.put(postId, entry);
+            }
+            if (entry.pages().size() >= maxPagesPerPost && !entry.pages().containsKey(key)) {
+                return;
+            }
+
+            CachedPage previous = entry.pages().put(key, page);
+            if (previous != null) {
+                weight -= previous.content().size();
+            }
+            weight += page.content().size();
+            page.content().stream()
+                    .map(CommentDto::getUserId)
+                    .filter(Objects::nonNull)
+                    .forEach(entry.writerIds()::add);
+
+            evictOverflow();
+        }
+    }
+
+    private void evict(Long postId) {
+        invalidations.put(postId, new Invalidation(clock.incrementAndGet(), System.currentTimeMillis()));
+
+        synchronized (lock) {
+            PostComments removed = entries.remove(postId);
+            if (removed != null) {
+                weight -= removed.weight();
+            }
+        }
+    }
+
+    private void evictWriter(Long userId) {
+        writerFloor.set(clock.incrementAndGet());
+
+        synchronized (lock) {
+            entries.entrySet().removeIf(entry -> {
+                if (entry.getValue().writerIds().contains(userId)) {
+                    weight -= entry.getValue().weight();
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    // lock 안에서 호출
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, PostComments>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxPosts || weight > maxComments) && iterator.hasNext()) {
+            weight -= iterator.next().getValue().weight();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    // 게시글 한 개의 캐시된 페이지 + 댓글 작성자 ID
+    private record PostComments(Map<PageKey, CachedPage> pages, Set<Long> writerIds) {
+
+        long weight() {
+            return pages.values().stream().mapToLong(page -> page.content().size()).sum();
+        }
+    }
+
+    private record CachedPage(List<CommentDto> content, Long nextAfter, long totalCount) {
+    }
+
+    private record PageKey(Long after, int size) {
+    }
+
+    private record Invalidation(long version, long at) {
+    }
+
+    public record Stats(long hits, long misses, long evictions, int posts, long comments) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.community.service;
 
 
 import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.comment.CommentPage;
 import com.example.community.domain.post.PostDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +22,16 @@ public interface CommentService {
     // 게시물 별 댓글 목록
     List<CommentDto> getList(Long postId);
 
+    /**
+     * 게시물 별 댓글 키셋 페이지 (id 오름차순)
+     * 작성자 닉네임은 페이지당 IN 쿼리 1회로 조회
+     * @param postId 게시물 고유번호
+     * @param after 이 댓글 ID 이후부터 (null이면 처음부터)
+     * @param limit 조회 개수 (1 ~ 100)
+     * @return 댓글 페이지 + 다음 커서 + 전체 댓글 수
+     */
+    CommentPage getPage(Long postId, Long after, int limit);
+
     // 전체 댓글 조회용
     Page<CommentDto> getAllComments(Pageable pageable);
 
@@ -2,12 +2,19 @@ package com.example.community.service;
 
 import com.example.community.domain.comment.CommentDto;
 import com.example.community.domain.comment.CommentEntity;
+import com.example.community.domain.comment.CommentPage;
+import com.example.community.domain.comment.CommentRow;
+import com.example.community.domain.post.PostCounter;
 import com.example.community.domain.post.PostDto;
 import com.example.community.domain.post.PostEntity;
 import com.example.community.domain.user.UserEntity;
+import com.example.community.persistence.BoardStatsRepository;
 import com.example.community.persistence.CommentRepository;
 import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.PostStatsRepository;
 import com.example.community.persistence.UserRepository;
+import com.example.community.search.CommentSearchIndex;
+import com.example.community.web.AnonymousPageCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -17,6 +24,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -26,9 +34,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CommentServiceImpl implements CommentService {
 
+    // 댓글 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
+    private final PostStatsRepository postStatsRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final CommentSearchIndex commentSearchIndex;
+    private final PostCounterStore postCounterStore;
+    private final CommentListCache commentListCache;
+    private final BoardStatsRepository boardStatsRepository;
+    private final AnonymousPageCache anonymousPageCache;
 
     // 본인 확인
     private boolean isOwner(CommentEntity commentEntity, Long userId) {
@@ -59,14 +76,20 @@ public class CommentServiceImpl implements CommentService {
                 .orElse("unknown");
     }
 
-    // Entity > Dto 변환시 닉네임 결합
+    // Entity > Dto 변환시 닉네임, 게시글 댓글 수(post_stats + 분산 카운터 미합산분) 결합
     private CommentDto convertToDto(CommentEntity comment) {
         String nickname = getNickname(comment.getUserId());
-        return CommentDto.from(comment, nickname);
+        CommentDto dto = CommentDto.from(comment, nickname);
+
+        Long postId = comment.getPostEntity().getId();
+        dto.setCommentsCount(PostCounter.displayed(postStatsRepository.findCommentsByPostId(postId).orElse(0)
+                + postCounterStore.getPending(postId, PostCounter.COMMENTS)));
+        return dto;
     }
 
-    // 댓글 생성
+    // 댓글 생성 - 댓글 저장과 댓글 수 증가를 한 트랜잭션으로
     @Override
+    @Transactional
     public Optional<CommentDto> create(CommentDto commentDto, Long userId) {
         if (userId == null) return Optional.empty();
 
@@ -81,10 +104,19 @@ public class CommentServiceImpl implements CommentService {
                                     .build()
                     );
 
-                    postEntity.increaseCommentsCount();
-                    postRepository.save(postEntity);
+                    // 댓글 수 +1 (UPDATE 1회, 댓글이 몰리는 게시글은 분산 카운터에 누적)
+                    if (!postCounterStore.tryAdd(postEntity.getId(), PostCounter.COMMENTS, 1)) {
+                        postStatsRepository.addComments(postEntity.getId(), 1);
+                    }
 
-                    return convertToDto(saved);
+                    commentSearchIndex.index(saved.getId(), postEntity.getId(), postEntity.getBoardId(),
+                            userId, saved.getContent());
+                    commentListCache.invalidate(postEntity.getId());
+                    CommentDto dto = convertToDto(saved);
+
+                    // 게시판 목록에 댓글 수가 보이므로 목록 검증값(변경 시각)도 갱신
+                    touchBoard(postEntity.getBoardId());
+                    return dto;
                 });
     }
 
@@ -107,6 +139,9 @@ public class CommentServiceImpl implements CommentService {
                 .map(comment -> {
                     comment.updateContent(commentDto.getContent());
                     CommentEntity saved = commentRepository.save(comment);
+                    commentSearchIndex.index(saved.getId(), saved.getPostEntity().getId(),
+                            saved.getPostEntity().getBoardId(), saved.getUserId(), saved.getContent());
+                    commentListCache.invalidate(saved.getPostEntity().getId());
                     log.info("댓글 수정 완료: id={}", saved.getId());
                     return convertToDto(saved);
                 });
@@ -121,19 +156,30 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.findById(id)
                 .filter(comment -> isOwner(comment, userId) || isAdmin(userId))
                 .map(comment -> {
-                    // 댓글 수 감소 추가
-                    postRepository.findById(comment.getPostEntity().getId())
-                            .ifPresent(post -> {
-                                post.decreaseCommentsCount();
-                                postRepository.save(post);
-                            });
+                    Long postId = comment.getPostEntity().getId();
+                    Long boardId = comment.getPostEntity().getBoardId();
                     commentRepository.delete(comment);
+
+                    // 댓글 수 -1 (게시글을 다시 읽지 않고 UPDATE 1회)
+                    if (!postCounterStore.tryAdd(postId, PostCounter.COMMENTS, -1)) {
+                        postStatsRepository.addComments(postId, -1);
+                    }
+                    commentSearchIndex.remove(id);
+                    commentListCache.invalidate(postId);
+                    touchBoard(boardId);
                     log.info("댓글 삭제 완료: id={}", id);
                     return true;
                 })
                 .orElse(false);
     }
 
+    // 게시판 변경 시각 갱신 + 비로그인 목록 캐시 무효화 (댓글 수 [N] 표시가 오래된 값으로 304 되지 않도록)
+    // touch는 영속성 컨텍스트를 비우므로 엔티티 값을 다 읽은 뒤 마지막에 호출
+    private void touchBoard(Long boardId) {
+        boardStatsRepository.touch(boardId, LocalDateTime.now());
+        anonymousPageCache.invalidateBoard(boardId);
+    }
+
     // 댓글 조회
     @Override
     public Optional<CommentDto> read(Long id) {
@@ -141,23 +187,63 @@ public class CommentServiceImpl implements CommentService {
                 .map(this::convertToDto);
     }
 
+    // 댓글 키셋 페이지 (CommentListCache에 있으면 DB 조회 없이)
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPage getPage(Long postId, Long after, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        log.info("댓글 페이지 조회: postId={}, after={}, size={}", postId, after, size);
+
+        Optional<CommentPage> cached = commentListCache.getPage(postId, after, size);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long version = commentListCache.nextVersion();
+
+        // 한 건 더 조회해서 다음 페이지 여부 확인
+        List<CommentRow> rows = commentRepository.findPageByPostId(
+                postId, after == null ? 0L : after, PageRequest.of(0, size + 1));
+        boolean hasNext = rows.size() > size;
+        List<CommentRow> comments = hasNext ? rows.subList(0, size) : rows;
+
+        List<CommentDto> content = comments.stream()
+                .map(CommentDto::from)
+                .collect(Collectors.toList());
+
+        long totalCount = PostCounter.displayed(postStatsRepository.findCommentsByPostId(postId).orElse(0)
+                + postCounterStore.getPending(postId, PostCounter.COMMENTS));
+
+        CommentPage page = new CommentPage(content, hasNext ? comments.get(comments.size() - 1).getId() : null, totalCount);
+        commentListCache.putPage(version, postId, after, size, page);
+        return page;
+    }
+
     // 댓글 목록 - @Transactional(readOnly = true) 추가!
     @Override
     @Transactional(readOnly = true)
     public List<CommentDto> getList(Long postId) {
         log.info("댓글 목록 조회: postId={}", postId);
+
+        Optional<List<CommentDto>> cached = commentListCache.getList(postId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long version = commentListCache.nextVersion();
+
         // 정렬 메서드 추가했으면 그걸로 바꿔도 됨
-        return commentRepository.findByPostEntityId(postId).stream()
-                .map(this::convertToDto)
+        List<CommentDto> comments = commentRepository.findRowsByPostId(postId).stream()
+                .map(CommentDto::from)
                 .collect(Collectors.toList());
+        commentListCache.putList(version, postId, comments);
+        return comments;
     }
 
     // 전제 댓글 조회
     @Override
     @Transactional(readOnly = true)
     public Page<CommentDto> getAllComments(Pageable pageable) {
-        return commentRepository.findAll(pageable)
-                .map(this::convertToDto);
+        return commentRepository.findRows(pageable)
+                .map(CommentDto::from);
     }
 
     // 내댓글 목록 조회
@@ -167,7 +253,7 @@ public class CommentServiceImpl implements CommentService {
         log.info("내 댓글 조회: userId={}, page={}, size={}",
                 userId, pageable.getPageNumber(), pageable.getPageSize());
 
-        return commentRepository.findByUserId(userId, pageable)
+        return commentRepository.findRowsByUserId(userId, pageable)
                 .map(CommentDto::from);
     }
 
@@ -178,9 +264,9 @@ public class CommentServiceImpl implements CommentService {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        return commentRepository.findByUserId(userId, pageable)
+        return commentRepository.findRowsByUserId(userId, pageable)
                 .stream()
-                .map(this::convertToDto)
+                .map(CommentDto::from)
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.example.community.service;
+
+import com.example.community.persistence.UserMessageCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * user_message_counters 보정 작업
+ *
+ * 쪽지 변경 시 증감하는 집계 값이 messages와 어긋났으면(배포 전 데이터, 직접 수정한 데이터 등) 다시 센다
+ * - 어긋난 회원만 골라, 회원마다 집계 행을 잠근 뒤 다시 세므로 진행 중인 쪽지 변경과 섞이지 않는다
+ * - 쪽지가 있는데 집계 행이 없는 회원은 행을 만들고, 탈퇴한 회원의 집계 행은 지운다
+ */
+@Component
+@Slf4j
+public class MessageCounterReconciler {
+
+    private final UserMessageCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public MessageCounterReconciler(UserMessageCounterRepository counterRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${community.message-counter.reconcile-interval-ms:600000}",
+            fixedDelayString = "${community.message-counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            List<Long> candidates = transactionTemplate.execute(status -> counterRepository.findDriftedUserIds());
+            if (candidates == null) {
+                return;
+            }
+
+            int repaired = 0;
+            for (Long userId : candidates) {
+                repaired += repair(userId);
+            }
+
+            Integer inserted = transactionTemplate.execute(status -> counterRepository.insertMissing());
+            Integer removed = transactionTemplate.execute(status -> counterRepository.deleteOrphans());
+            if (repaired > 0 || (inserted != null && inserted > 0) || (removed != null && removed > 0)) {
+                log.info("MESSAGE COUNTER RECONCILE: candidates={}, repaired={}, inserted={}, removed={}",
+                        candidates.size(), repaired, inserted, removed);
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            log.warn("MESSAGE COUNTER RECONCILE FAILED: reason={}", e.getMessage());
+        }
+    }
+
+    // 회원 한 명 다시 세기 (고쳤으면 1)
+    int repair(Long userId) {
+        Integer updated = transactionTemplate.execute(status -> {
+            if (counterRepository.lockByUserId(userId).isEmpty()) {
+                return 0;
+            }
+            return counterRepository.recount(userId);
+        });
+        return updated == null ? 0 : updated;
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.community.service;
 
+import com.example.community.domain.message.BulkOutcome;
 import com.example.community.domain.message.MessageDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface MessageService {
@@ -38,7 +41,22 @@ public interface MessageService {
     void permanentDelete(Long id, String username, String userType);
 
     /**
-     * 읽지 않은 받은 쪽지 개수 조회
+     * 선택한 쪽지 휴지통으로 이동 (한 트랜잭션, 쪽지 ID별 결과 반환)
      */
-    long getUnreadCount(String username);
+    Map<Long, BulkOutcome> moveToTrashBulk(List<Long> ids, String username, String userType);
+
+    /**
+     * 선택한 쪽지 복구 (한 트랜잭션, 쪽지 ID별 결과 반환)
+     */
+    Map<Long, BulkOutcome> restoreBulk(List<Long> ids, String username, String userType);
+
+    /**
+     * 선택한 쪽지 영구 삭제 (한 트랜잭션, 양측 모두 삭제한 쪽지는 물리 삭제, 쪽지 ID별 결과 반환)
+     */
+    Map<Long, BulkOutcome> permanentDeleteBulk(List<Long> ids, String username, String userType);
+
+    /**
+     * 읽지 않은 받은 쪽지 개수 조회 (회원 ID 기준)
+     */
+    long getUnreadCount(Long userId);
 }
\ No newline at end of file
@@ -1,24 +1,40 @@
 package com.example.community.service;
 
+import com.example.community.domain.message.BulkOutcome;
+import com.example.community.domain.message.MessageBoxCounts;
+import com.example.community.domain.message.MessageBoxState;
 import com.example.community.domain.message.MessageDto;
 import com.example.community.domain.message.MessageEntity;
+import com.example.community.domain.message.MessageSummary;
 import com.example.community.domain.user.UserEntity;
 import com.example.community.persistence.MessageRepository;
+import com.example.community.persistence.UserMessageCounterRepository;
 import com.example.community.persistence.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class MessageServiceImpl implements MessageService {
 
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final UserMessageCounterRepository counterRepository;
+    private final UnreadMessageNotifier unreadMessageNotifier;
 
     /**
      * 쪽지 발송
@@ -49,34 +65,46 @@ public class MessageServiceImpl implements MessageService {
                 .build();
 
         messageRepository.save(message);
+        updateCounters(message, MessageCounts.NONE, MessageCounts.NONE,
+                new UnreadMessageNotifier.Notice(message.getId(), message.getTitle(), sender.getNickname()));
     }
 
     /**
      * 목록 조회
      * type(received/sent/trash/all)에 따른 조건별 최신순 조회
+     * 목록은 MessageSummary 프로젝션(발신자/수신자 ID + 닉네임)으로, 전체 건수는 user_message_counters로
      */
     @Override
     public Page<MessageDto> getMessages(String type, String username, Pageable pageable) {
-        UserEntity user = userRepository.findByUsername(username)
+        Long userId = userRepository.findIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        Optional<MessageBoxCounts> counts = counterRepository.findBoxCountsByUserId(userId);
 
+        List<MessageSummary> messages;
+        long total;
         if ("received".equals(type)) {
             // 받은 쪽지함: 수신자가 나이고 삭제되지 않은 상태
-            return messageRepository.findByReceiverAndReceiverDeleteState(user, 0, pageable)
-                    .map(m -> MessageDto.from(m, username));
+            messages = messageRepository.findReceivedList(userId, pageable);
+            total = counts.map(MessageBoxCounts::getInbox).orElse(0L);
         } else if ("sent".equals(type)) {
             // 보낸 쪽지함: 발신자가 나이고 삭제되지 않은 상태
-            return messageRepository.findBySenderAndSenderDeleteState(user, 0, pageable)
-                    .map(m -> MessageDto.from(m, username));
+            messages = messageRepository.findSentList(userId, pageable);
+            total = counts.map(MessageBoxCounts::getSent).orElse(0L);
         } else if ("trash".equals(type)) {
             // 휴지통: 수신 혹은 발신 중 하나라도 삭제 상태가 1인 경우
-            return messageRepository.findTrashMessages(user, pageable)
-                    .map(m -> MessageDto.from(m, username));
+            messages = messageRepository.findTrashList(userId, pageable);
+            total = counts.map(MessageBoxCounts::getTrash).orElse(0L);
         } else {
             // 전체 쪽지함(all): 보낸 쪽지와 받은 쪽지 모두 포함 (deleteState가 0인 것들)
-            return messageRepository.findAllMessages(user, pageable)
-                    .map(m -> MessageDto.from(m, username));
+            messages = messageRepository.findAllList(userId, pageable);
+            total = counts.map(c -> c.getInbox() + c.getSent()).orElse(0L);
         }
+
+        // 집계 행이 없거나 어긋나도 PageImpl이 현재 페이지까지는 건수로 인정한다
+        List<MessageDto> content = messages.stream()
+                .map(summary -> MessageDto.from(summary, userId))
+                .toList();
+        return new PageImpl<>(content, pageable, total);
     }
 
     /**
@@ -85,15 +113,17 @@ public class MessageServiceImpl implements MessageService {
     @Override
     @Transactional
     public Optional<MessageDto> getMessageDetail(Long id, String username) {
-        return messageRepository.findById(id).map(message -> {
+        return messageRepository.findDetailById(id).map(message -> {
             // 권한 체크: 발신자나 수신자가 아니면 조회 불가
             if (!message.getSender().getUsername().equals(username) &&
                     !message.getReceiver().getUsername().equals(username)) {
                 throw new RuntimeException("조회 권한이 없습니다.");
             }
             // 수신자가 읽는 경우에만 읽음 처리
-            if (message.getReceiver().getUsername().equals(username)) {
+            if (message.getReceiver().getUsername().equals(username) && message.getIsRead() == 0) {
+                MessageCounts receiverBefore = MessageCounts.receiverSide(message);
                 message.markAsRead();
+                updateCounters(message, receiverBefore, MessageCounts.senderSide(message), null);
             }
             return MessageDto.from(message, username);
         });
@@ -109,12 +139,16 @@ public class MessageServiceImpl implements MessageService {
         MessageEntity message = messageRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("쪽지를 찾을 수 없습니다."));
 
+        MessageCounts receiverBefore = MessageCounts.receiverSide(message);
+        MessageCounts senderBefore = MessageCounts.senderSide(message);
+
         // 내가 보낸 쪽지 리스트에서 삭제를 눌렀을 때와 받은 리스트에서 눌렀을 때 구분
         if ("sent".equals(userType)) {
             message.updateSenderDeleteState(1);
         } else {
             message.updateReceiverDeleteState(1);
         }
+        updateCounters(message, receiverBefore, senderBefore, null);
     }
 
     /**
@@ -126,11 +160,15 @@ public class MessageServiceImpl implements MessageService {
         MessageEntity message = messageRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("쪽지를 찾을 수 없습니다."));
 
+        MessageCounts receiverBefore = MessageCounts.receiverSide(message);
+        MessageCounts senderBefore = MessageCounts.senderSide(message);
+
         if ("sent".equals(userType)) {
             message.updateSenderDeleteState(0);
         } else {
             message.updateReceiverDeleteState(0);
         }
+        updateCounters(message, receiverBefore, senderBefore, null);
     }
 
     /**
@@ -142,11 +180,15 @@ public class MessageServiceImpl implements MessageService {
         MessageEntity message = messageRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("쪽지를 찾을 수 없습니다."));
 
+        MessageCounts receiverBefore = MessageCounts.receiverSide(message);
+        MessageCounts senderBefore = MessageCounts.senderSide(message);
+
         if ("sent".equals(userType)) {
             message.updateSenderDeleteState(2);
         } else {
             message.updateReceiverDeleteState(2);
         }
+        updateCounters(message, receiverBefore, senderBefore, null);
 
         // 양측 사용자 모두 영구 삭제(state=2)를 요청한 경우 DB에서 실제 데이터 삭제
         if (message.getSenderDeleteState() == 2 && message.getReceiverDeleteState() == 2) {
@@ -154,17 +196,191 @@ public class MessageServiceImpl implements MessageService {
         }
     }
 
+    /**
+     * 선택 삭제 - 휴지통 이동 (정상 상태 0 -> 휴지통 1)
+     */
+    @Override
+    @Transactional
+    public Map<Long, BulkOutcome> moveToTrashBulk(List<Long> ids, String username, String userType) {
+        return changeStates(ids, username, userType, Set.of(0), 1);
+    }
+
+    /**
+     * 선택 복구 (휴지통 1 -> 정상 상태 0)
+     */
+    @Override
+    @Transactional
+    public Map<Long, BulkOutcome> restoreBulk(List<Long> ids, String username, String userType) {
+        return changeStates(ids, username, userType, Set.of(1), 0);
+    }
+
+    /**
+     * 선택 영구 삭제 (정상 상태 0 / 휴지통 1 -> 영구 삭제 2)
+     * 양측 모두 영구 삭제한 쪽지는 DB에서 삭제
+     */
+    @Override
+    @Transactional
+    public Map<Long, BulkOutcome> permanentDeleteBulk(List<Long> ids, String username, String userType) {
+        Map<Long, BulkOutcome> outcomes = changeStates(ids, username, userType, Set.of(0, 1), 2);
+
+        List<Long> deleted = outcomes.entrySet().stream()
+                .filter(entry -> entry.getValue() == BulkOutcome.DONE)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!deleted.isEmpty()) {
+            messageRepository.deletePermanently(deleted);
+        }
+        return outcomes;
+    }
+
     /**
      * 읽지 않은 받은 쪽지 개수 조회
+     * user_message_counters 기본 키 조회 (집계 행이 아직 없는 회원만 messages를 센다)
      * - receiver: 본인
      * - isRead: 0 (안읽음)
      * - receiverDeleteState: 0 (휴지통이나 삭제되지 않은 정상 상태)
      */
     @Override
-    public long getUnreadCount(String username) {
-        UserEntity user = userRepository.findByUsername(username)
+    public long getUnreadCount(Long userId) {
+        return counterRepository.findUnreadByUserId(userId)
+                .orElseGet(() -> messageRepository.countByReceiverAndIsReadAndReceiverDeleteState(
+                        userRepository.getReferenceById(userId), 0, 0));
+    }
+
+    /**
+     * 내 쪽(userType: sent면 발신자, 아니면 수신자)의 삭제 상태를 from -> to로 일괄 변경
+     * 쪽지를 한 통씩 읽지 않고 UPDATE 몇 번으로 처리하고, 바뀐 행 수로 내 쪽지함 개수를 맞춘다
+     * (다른 회원 쪽의 상태는 바뀌지 않으므로 내 집계 행만 갱신)
+     */
+    private Map<Long, BulkOutcome> changeStates(List<Long> ids, String username, String userType,
+                                                Set<Integer> from, int to) {
+        Set<Long> targets = ids == null ? Set.of() : new LinkedHashSet<>(ids);
+        if (targets.isEmpty()) {
+            return Map.of();
+        }
+
+        Long userId = userRepository.findIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        boolean sent = "sent".equals(userType);
+
+        // 변경 전 상태 (쪽지 ID별 결과 판단용)
+        Map<Long, Integer> states = (sent
+                ? messageRepository.findSenderStates(targets, userId)
+                : messageRepository.findReceiverStates(targets, userId)).stream()
+                .collect(Collectors.toMap(MessageBoxState::getId, MessageBoxState::getState));
+
+        MessageCounts delta = MessageCounts.NONE;
+        for (int state : from) {
+            if (sent) {
+                int changed = messageRepository.updateSenderStates(targets, userId, state, to);
+                delta = delta.plus(MessageCounts.senderState(to).minus(MessageCounts.senderState(state)).times(changed));
+            } else {
+                // 안 읽은 쪽지는 unread에도 영향을 주므로 읽음 여부별로 나눠 변경
+                for (int isRead : new int[]{0, 1}) {
+                    int changed = messageRepository.updateReceiverStates(targets, userId, state, to, isRead);
+                    delta = delta.plus(MessageCounts.receiverState(to, isRead)
+                            .minus(MessageCounts.receiverState(state, isRead)).times(changed));
+                }
+            }
+        }
+
+        addCounts(userId, delta);
+        if (delta.unread() != 0) {
+            unreadMessageNotifier.publish(username, () -> getUnreadCount(userId), null);
+        }
 
-        return messageRepository.countByReceiverAndIsReadAndReceiverDeleteState(user, 0, 0);
+        Map<Long, BulkOutcome> outcomes = new LinkedHashMap<>();
+        for (Long id : targets) {
+            Integer state = states.get(id);
+            outcomes.put(id, state == null ? BulkOutcome.NOT_FOUND
+                    : from.contains(state) ? BulkOutcome.DONE : BulkOutcome.SKIPPED);
+        }
+        log.info("BULK STATE CHANGE: username={}, userType={}, to={}, requested={}, delta={}",
+                username, userType, to, targets.size(), delta);
+        return outcomes;
+    }
+
+    /**
+     * 쪽지 상태 변경을 발신자/수신자의 쪽지함 개수에 반영 (같은 트랜잭션)
+     * 안 읽은 쪽지 수가 바뀌었거나 새 쪽지면 수신자에게 SSE로 알림
+     */
+    private void updateCounters(MessageEntity message, MessageCounts receiverBefore, MessageCounts senderBefore,
+                                UnreadMessageNotifier.Notice notice) {
+        MessageCounts receiverDelta = MessageCounts.receiverSide(message).minus(receiverBefore);
+        MessageCounts senderDelta = MessageCounts.senderSide(message).minus(senderBefore);
+
+        // 집계 행은 항상 회원 아이디(PK) 오름차순으로 잠근다
+        // (A->B, B->A 발송이 동시에 일어나도 서로 반대 순서로 행을 잡아 교착되지 않도록)
+        Long senderId = message.getSender().getId();
+        Long receiverId = message.getReceiver().getId();
+        if (senderId.compareTo(receiverId) <= 0) {
+            addCounts(senderId, senderDelta);
+            addCounts(receiverId, receiverDelta);
+        } else {
+            addCounts(receiverId, receiverDelta);
+            addCounts(senderId, senderDelta);
+        }
+
+        if (receiverDelta.unread() != 0 || notice != null) {
+            unreadMessageNotifier.publish(message.getReceiver().getUsername(),
+                    () -> getUnreadCount(receiverId), notice);
+        }
+    }
+
+    private void addCounts(Long userId, MessageCounts delta) {
+        if (delta.isZero()) {
+            return;
+        }
+
+        // 집계 행이 없으면 messages에서 세어 만든다 (방금 바꾼 쪽지까지 포함되므로 더하지 않음)
+        if (counterRepository.add(userId, delta.unread(), delta.inbox(), delta.sent(), delta.trash()) == 0
+                && counterRepository.insertRecounted(userId) == 0) {
+            // 그 사이 다른 요청이 행을 만들었음
+            counterRepository.add(userId, delta.unread(), delta.inbox(), delta.sent(), delta.trash());
+        }
+    }
+
+    /**
+     * 쪽지 한 통이 회원의 쪽지함 개수에 더하는 값
+     */
+    private record MessageCounts(int unread, int inbox, int sent, int trash) {
+
+        static final MessageCounts NONE = new MessageCounts(0, 0, 0, 0);
+
+        // 수신자 쪽 (삭제 상태 0: 받은 쪽지함, 1: 휴지통, 2: 영구 삭제)
+        static MessageCounts receiverSide(MessageEntity message) {
+            return receiverState(message.getReceiverDeleteState(), message.getIsRead());
+        }
+
+        // 발신자 쪽
+        static MessageCounts senderSide(MessageEntity message) {
+            return senderState(message.getSenderDeleteState());
+        }
+
+        static MessageCounts receiverState(int state, int isRead) {
+            return new MessageCounts(state == 0 && isRead == 0 ? 1 : 0, state == 0 ? 1 : 0, 0, state == 1 ? 1 : 0);
+        }
+
+        static MessageCounts senderState(int state) {
+            return new MessageCounts(0, 0, state == 0 ? 1 : 0, state == 1 ? 1 : 0);
+        }
+
+        MessageCounts minus(MessageCounts other) {
+            return new MessageCounts(unread - other.unread, inbox - other.inbox,
+                    sent - other.sent, trash - other.trash);
+        }
+
+        MessageCounts plus(MessageCounts other) {
+            return new MessageCounts(unread + other.unread, inbox + other.inbox,
+                    sent + other.sent, trash + other.trash);
+        }
+
+        MessageCounts times(int n) {
+            return new MessageCounts(unread * n, inbox * n, sent * n, trash * n);
+        }
+
+        boolean isZero() {
+            return unread == 0 && inbox == 0 && sent == 0 && trash == 0;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,206 @@
+package com.example.community.service;
+
+import com.example.community.domain.post.PostDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인기 게시글(조회수 기준) 상위 K개를 메모리에 유지하는 랭킹
+ *
+ * 조회/좋아요/작성/수정 시점에 offer()로 갱신하고, 사이드바 조회는 스냅샷 리스트만 읽는다 (DB 접근 없음)
+ * - 시작 시 DB에서 상위 K개로 초기화 (PostServiceImpl#loadPopularPosts)
+ * - 랭킹 안의 게시글이 삭제되거나 트랜잭션이 롤백되면 stale 표시 후 다음 조회 때 DB에서 다시 채운다
+ * - 다시 채우는 조회는 한 요청만 실행하고(tryStartRefill), 그동안 다른 요청은 기존 랭킹을 그대로 읽는다
+ */
+@Component
+@Slf4j
+public class PopularPostRanking {
+
+    // 메모리에 유지할 게시글 수 (사이드바 TOP 10보다 여유 있게)
+    public static final int CAPACITY = 50;
+
+    private static final Comparator<PostDto> ORDER = Comparator
+            .comparing(PostDto::getViewCount, Comparator.reverseOrder())
+            .thenComparing(PostDto::getId, Comparator.reverseOrder());
+
+    // 게시글 ID -> 랭킹 항목 (synchronized 블록 안에서만 접근)
+    private final Map<Long, PostDto> entries = new HashMap<>();
+
+    // 읽기용 스냅샷 (조회수 내림차순)
+    private volatile List<PostDto> ranking = List.of();
+    private volatile Set<Long> rankedIds = Set.of();
+
+    private volatile boolean stale = true;
+
+    // DB에서 다시 채우는 중인지 (동시에 여러 요청이 같은 조회를 실행하지 않도록)
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    /**
+     * 상위 limit개 조회
+     */
+    public List<PostDto> getTop(int limit) {
+        List<PostDto> snapshot = ranking;
+        return snapshot.size() <= limit ? snapshot : snapshot.subList(0, limit);
+    }
+
+    /**
+     * DB에서 다시 채워야 하는지 여부
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * DB에서 다시 채우기 시작 (이미 다른 요청이 채우는 중이면 false)
+     * 시작과 함께 stale을 내리므로, 채우는 도중 삭제/롤백이 있으면 다시 stale이 되어 다음 조회 때 한 번 더 채운다
+     */
+    public boolean tryStartRefill() {
+        if (!refilling.compareAndSet(false, true)) {
+            return false;
+        }
+
+        stale = false;
+        return true;
+    }
+
+    /**
+     * 다시 채우기 종료
+     * @param loaded 실패했으면 false (다음 조회 때 다시 시도)
+     */
+    public void finishRefill(boolean loaded) {
+        if (!loaded) {
+            stale = true;
+        }
+        refilling.set(false);
+    }
+
+    /**
+     * 현재 랭킹에 들어있는 게시글인지
+     */
+    public boolean contains(Long postId) {
+        return rankedIds.contains(postId);
+    }
+
+    /**
+     * 랭킹에 들어갈 수 있는 조회수인지 (이미 들어있는 게시글이면 항상 true)
+     */
+    public boolean accepts(Long postId, int viewCount) {
+        List<PostDto> snapshot = ranking;
+
+        if (snapshot.size() < CAPACITY || rankedIds.contains(postId)) {
+            return true;
+        }
+
+        PostDto last = snapshot.get(snapshot.size() - 1);
+        return viewCount > last.getViewCount()
+                || (viewCount == last.getViewCount() && postId > last.getId());
+    }
+
+    /**
+     * DB 조회 결과로 랭킹 초기화
+     */
+    public synchronized void reset(List<PostDto> posts) {
+        entries.clear();
+        posts.forEach(post -> entries.put(post.getId(), compact(post)));
+        publish();
+        markStaleOnRollback();
+
+        log.info("POPULAR RANKING RESET: size={}", ranking.size());
+    }
+
+    /**
+     * 게시글 조회수/좋아요 등 변경 반영
+     * 랭킹에 들지 못하는 게시글은 잠금 없이 바로 반환
+     */
+    public void offer(PostDto post) {
+        if (post == null || post.getId() == null || post.getViewCount() == null) {
+            return;
+        }
+
+        if (!accepts(post.getId(), post.getViewCount())) {
+            return;
+        }
+
+        synchronized (this) {
+            entries.put(post.getId(), compact(post));
+            publish();
+        }
+
+        markStaleOnRollback();
+    }
+
+    /**
+     * 삭제된 게시글 제거
+     * 빈 자리는 다음 조회 때 DB에서 다시 채운다
+     */
+    public synchronized void remove(Long postId) {
+        if (entries.remove(postId) != null) {
+            publish();
+            stale = true;
+        }
+    }
+
+    /**
+     * 다음 조회 때 DB에서 다시 채우도록 표시
+     */
+    public void markStale() {
+        stale = true;
+    }
+
+    // 정렬 후 CAPACITY 초과분 제거, 스냅샷 교체
+    private void publish() {
+        List<PostDto> sorted = entries.values().stream()
+                .sorted(ORDER)
+                .limit(CAPACITY)
+                .toList();
+
+        if (sorted.size() < entries.size()) {
+            entries.keySet().retainAll(sorted.stream().map(PostDto::getId).toList());
+        }
+
+        ranking = sorted;
+        rankedIds = Set.copyOf(entries.keySet());
+    }
+
+    // 진행 중인 트랜잭션이 롤백되면 랭킹에 반영된 값도 되돌려야 하므로 다시 채우도록 표시
+    private void markStaleOnRollback() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    markStale();
+                }
+            }
+        });
+    }
+
+    // 사이드바 표시에 필요한 필드만 복사 (본문 제외)
+    private PostDto compact(PostDto post) {
+        return PostDto.builder()
+                .id(post.getId())
+                .userId(post.getUserId())
+                .boardId(post.getBoardId())
+                .title(post.getTitle())
+                .writer(post.getWriter())
+                .createdAt(post.getCreatedAt())
+                .viewCount(post.getViewCount())
+                .commentsCount(post.getCommentsCount())
+                .likesCount(post.getLikesCount())
+                .postType(post.getPostType())
+                .fixed(post.getFixed())
+                .build();
+    }
+}
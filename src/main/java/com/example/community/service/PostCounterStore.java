@@ -0,0 +1,197 @@
+package com.example.community.service;
+
+import com.example.community.domain.post.PostCounter;
+import com.example.community.domain.post.PostCounterShardEntity;
+import com.example.community.persistence.PostCounterShardRepository;
+import com.example.community.persistence.PostStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인기 게시글용 분산(sharded) 카운터
+ *
+ * 좋아요/댓글 수 변경이 초당 hot-threshold 회를 넘는 게시글은 posts 행 대신
+ * post_counter_shards의 stripes개 행 중 임의의 한 행에 증감량을 쌓아 한 행에 잠금이 몰리지 않게 한다
+ * - 쌓인 증감량은 fold-interval-ms 주기로 posts에 합산 후 샤드 행에서 차감
+ *   (분산 카운터 사용 여부와 상관없이 증감량이 남은 샤드 행은 모두 합산)
+ * - 합산 전 값은 getPending()으로 더해서 보여준다
+ *   (분산 카운터 사용 여부와 상관없이 남은 샤드 행을 모두 더한다 - 재기동 직후나 늦게 커밋된 증감량도 보이도록)
+ * - 한동안(hot-cooldown-ms) 쓰기가 뜸해지면 남은 증감량을 합산한 뒤 다시 posts 행을 직접 갱신
+ */
+@Component
+@Slf4j
+public class PostCounterStore {
+
+    private final PostCounterShardRepository shardRepository;
+    private final PostStatsRepository postStatsRepository;
+    private final TransactionTemplate foldTemplate;
+
+    private final int stripes;
+    private final int hotThreshold;
+    private final long hotCooldownMs;
+
+    // 게시글 ID -> 최근 1초 쓰기 횟수
+    private final ConcurrentHashMap<Long, RateWindow> rates = new ConcurrentHashMap<>();
+    // 분산 카운터 사용 중인 게시글 ID -> 유지 기한 (epoch ms)
+    private final ConcurrentHashMap<Long, Long> hotUntil = new ConcurrentHashMap<>();
+
+    public PostCounterStore(PostCounterShardRepository shardRepository,
+                            PostStatsRepository postStatsRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${community.counter.stripes:8}") int stripes,
+                            @Value("${community.counter.hot-threshold:20}") int hotThreshold,
+                            @Value("${community.counter.hot-cooldown-ms:60000}") long hotCooldownMs) {
+        this.shardRepository = shardRepository;
+        this.postStatsRepository = postStatsRepository;
+        this.foldTemplate = new TransactionTemplate(transactionManager);
+        this.stripes = stripes;
+        this.hotThreshold = hotThreshold;
+        this.hotCooldownMs = hotCooldownMs;
+    }
+
+    /**
+     * 쓰기가 몰리는 게시글이면 분산 카운터에 증감량을 쌓는다 (호출한 트랜잭션에 포함)
+     * @return 분산 카운터에 쌓았으면 true, 아니면 false (호출한 쪽에서 posts 행을 직접 갱신)
+     */
+    public boolean tryAdd(Long postId, PostCounter counter, int delta) {
+        if (delta == 0 || !recordWrite(postId)) {
+            return false;
+        }
+
+        int shard = ThreadLocalRandom.current().nextInt(stripes);
+        shardRepository.add(postId, counter.name(), shard, delta);
+        return true;
+    }
+
+    /**
+     * 아직 posts에 합산되지 않은 증감량
+     * hotUntil은 메모리에만 있어 재기동하면 비므로, 분산 카운터 사용 여부와 상관없이 샤드 행을 더한다
+     */
+    public long getPending(Long postId, PostCounter counter) {
+        return shardRepository.sumPending(postId, counter);
+    }
+
+    /**
+     * 분산 카운터 사용 중인지
+     */
+    public boolean isHot(Long postId) {
+        Long until = hotUntil.get(postId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * 삭제된 게시글의 샤드 행 제거 (게시글 삭제와 같은 트랜잭션)
+     */
+    public void discard(Long postId) {
+        shardRepository.deleteByPostId(postId);
+        hotUntil.remove(postId);
+        rates.remove(postId);
+    }
+
+    /**
+     * 샤드 행에 쌓인 증감량을 posts에 합산
+     * 읽은 값만큼만 샤드 행에서 차감하므로 합산 도중 들어온 증감량은 다음 주기에 반영된다
+     * 분산 카운터를 그만 쓴 게시글에 늦게 커밋된 증감량도 남지 않도록 hotUntil이 비어 있어도 합산한다
+     */
+    @Scheduled(fixedDelayString = "${community.counter.fold-interval-ms:5000}")
+    public synchronized void fold() {
+        try {
+            Map<Long, Map<PostCounter, Long>> totals = foldTemplate.execute(status -> foldPending());
+            if (totals != null && !totals.isEmpty()) {
+                log.debug("POST COUNTER FOLD: {}", totals);
+            }
+        } catch (RuntimeException e) {
+            // 합산 실패 시 샤드 행이 그대로 남으므로 다음 주기에 다시 시도
+            log.warn("POST COUNTER FOLD FAILED: reason={}", e.getMessage());
+            return;
+        }
+
+        coolDown();
+    }
+
+    private Map<Long, Map<PostCounter, Long>> foldPending() {
+        Map<Long, Map<PostCounter, Long>> totals = foldRows(shardRepository.findPending());
+
+        // 분산 카운터를 쓰지 않는 게시글의 샤드 행은 합산이 끝났으면 바로 정리
+        totals.keySet().stream()
+                .filter(postId -> !hotUntil.containsKey(postId))
+                .forEach(shardRepository::deleteFolded);
+
+        return totals;
+    }
+
+    private Map<Long, Map<PostCounter, Long>> foldRows(List<PostCounterShardEntity> pending) {
+        Map<Long, Map<PostCounter, Long>> totals = new HashMap<>();
+
+        for (PostCounterShardEntity shard : pending) {
+            shardRepository.subtract(shard.getId(), shard.getAmount());
+            totals.computeIfAbsent(shard.getPostId(), id -> new EnumMap<>(PostCounter.class))
+                    .merge(shard.getCounter(), shard.getAmount(), Long::sum);
+        }
+
+        totals.forEach((postId, counters) -> counters.forEach((counter, amount) -> {
+            switch (counter) {
+                case LIKES -> postStatsRepository.addLikes(postId, amount.intValue());
+                case COMMENTS -> postStatsRepository.addComments(postId, amount.intValue());
+            }
+        }));
+
+        return totals;
+    }
+
+    // 기한이 지난 게시글은 남은 증감량을 합산하고 샤드 행을 정리한 뒤 다시 posts 행을 직접 갱신
+    private void coolDown() {
+        long now = System.currentTimeMillis();
+        List<Long> cooled = hotUntil.entrySet().stream()
+                .filter(entry -> entry.getValue() <= now)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        for (Long postId : cooled) {
+            try {
+                // foldPending() 이후에 쌓인 증감량까지 같은 트랜잭션에서 합산
+                foldTemplate.executeWithoutResult(status -> {
+                    foldRows(shardRepository.findPendingByPostId(postId));
+                    shardRepository.deleteFolded(postId);
+                });
+            } catch (RuntimeException e) {
+                // 합산 실패 시 분산 카운터 사용을 유지하고 다음 주기에 다시 시도
+                log.warn("POST COUNTER COOL DOWN FAILED: postId={}, reason={}", postId, e.getMessage());
+                continue;
+            }
+
+            // 그 사이 다시 쓰기가 몰려 기한이 연장됐으면 유지 (남은 샤드 행은 다음 주기에 합산)
+            hotUntil.computeIfPresent(postId, (id, until) -> until <= now ? null : until);
+        }
+
+        pruneRates();
+    }
+
+    private void pruneRates() {
+        long now = System.currentTimeMillis();
+        rates.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+    }
+
+    // 쓰기 1회 기록, 분산 카운터를 써야 하면 true
+    private boolean recordWrite(Long postId) {
+        long now = System.currentTimeMillis();
+        int count = rates.computeIfAbsent(postId, id -> new RateWindow()).record(now);
+
+        if (count >= hotThreshold || isHot(postId)) {
+            hotUntil.put(postId, now + hotCooldownMs);
+            return true;
+        }
+        return false;
+    }
+}
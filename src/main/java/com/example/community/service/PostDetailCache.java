@@ -0,0 +1,263 @@
+package com.example.community.service;
+
+import com.example.community.domain.post.PostDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 게시글 상세 캐시 (애플리케이션 전역)
+ *
+ * 본문은 거의 바뀌지 않으므로 읽기가 몰리는 게시글의 상세(제목/본문/작성자 등)를 메모리에 들고 있는다
+ * - 초당 hot-threshold 회 이상 읽힌 게시글만 캐시에 올린다 (한두 번 읽히는 글로 캐시가 밀려나지 않도록)
+ * - 항목마다 버전을 붙여, 마지막 무효화보다 먼저 읽기 시작한 값은 올리지도 돌려주지도 않는다
+ * - 항목 수(max-entries)와 본문 길이 합(max-weight) 중 하나라도 넘으면 가장 오래 안 읽힌 항목부터 제거 (LRU)
+ * - 작성자 닉네임이 바뀌면 invalidateWriter(userId)로 그 회원의 게시글만 버린다
+ * - 조회수/좋아요/댓글 수는 캐시하지 않는다 (호출한 쪽에서 post_stats + 미반영분으로 채움)
+ */
+@Component
+@Slf4j
+public class PostDetailCache {
+
+    // 무효화 기록 보관 시간 - 그 전에 시작한 조회는 이미 끝났다고 본다
+    private static final long INVALIDATION_RETENTION_MS = 60_000;
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final int hotThreshold;
+
+    // 버전 발급용 (조회 시작/무효화마다 증가)
+    private final AtomicLong clock = new AtomicLong();
+    // 마지막 작성자 단위 무효화 버전 (그 이전에 읽기 시작한 값은 올리지 않음)
+    private final AtomicLong writerFloor = new AtomicLong();
+
+    // 게시글 ID -> 캐시 항목 (접근 순서, lock으로 보호)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Object lock = new Object();
+    private long weight;
+
+    // 게시글 ID -> 마지막 무효화
+    private final ConcurrentHashMap<Long, Invalidation> invalidations = new ConcurrentHashMap<>();
+    // 게시글 ID -> 최근 1초 읽기 횟수
+    private final ConcurrentHashMap<Long, RateWindow> rates = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder promotions = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PostDetailCache(@Value("${community.post-cache.max-entries:500}") int maxEntries,
+                           @Value("${community.post-cache.max-weight:4000000}") long maxWeight,
+                           @Value("${community.post-cache.hot-threshold:5}") int hotThreshold) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.hotThreshold = hotThreshold;
+    }
+
+    /**
+     * 캐시된 상세 조회 (읽기 1회로 기록)
+     * 반환값은 복사본이므로 호출한 쪽에서 카운터를 채워도 캐시에는 영향 없음
+     */
+    public Optional<PostDto> get(Long postId) {
+        rates.computeIfAbsent(postId, id -> new RateWindow()).record(System.currentTimeMillis());
+
+        Entry entry;
+        synchronized (lock) {
+            entry = entries.get(postId);
+        }
+
+        if (entry == null || entry.version() <= invalidatedVersion(postId)) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(entry.post().toBuilder().build());
+    }
+
+    /**
+     * DB 조회 직전에 받는 버전
+     * 조회가 끝난 뒤 put()에 그대로 넘긴다
+     */
+    public long nextVersion() {
+        return clock.incrementAndGet();
+    }
+
+    /**
+     * DB에서 읽은 상세를 캐시에 올린다
+     * 읽기가 몰리는 게시글이 아니거나, version 발급 후 무효화가 있었으면 올리지 않는다
+     */
+    public void put(long version, PostDto postDto) {
+        Long postId = postDto.getId();
+        if (!isHot(postId)) {
+            return;
+        }
+
+        Entry entry = new Entry(version, postDto.toBuilder().build(), weigh(postDto));
+        if (entry.weight() > maxWeight) {
+            return;
+        }
+
+        synchronized (lock) {
+            // 무효화 기록은 lock 밖에서 먼저 남으므로 lock 안에서 확인해야 놓치지 않는다
+            if (version <= invalidatedVersion(postId) || version <= writerFloor.get()) {
+                return;
+            }
+
+            // 다른 요청이 더 새 버전을 올려 두었으면 유지
+            Entry previous = entries.get(postId);
+            if (previous != null && previous.version() >= version) {
+                return;
+            }
+
+            entries.put(postId, entry);
+            weight += entry.weight() - (previous != null ? previous.weight() : 0);
+            if (previous == null) {
+                promotions.increment();
+            }
+            evictOverflow();
+        }
+    }
+
+    /**
+     * 게시글 수정/삭제 시 무효화
+     * 트랜잭션 안에서 호출되면 커밋/롤백 후에도 한 번 더 무효화 (커밋 전 상태가 캐시에 남지 않도록)
+     */
+    public void invalidate(Long postId) {
+        evict(postId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(postId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 작성자 닉네임 변경/탈퇴 시 무효화 (그 회원의 게시글만)
+     */
+    public void invalidateWriter(Long userId) {
+        evictWriter(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictWriter(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 캐시 통계 (관리자 대시보드 표시, 크기 조정용)
+     */
+    public Stats getStats() {
+        synchronized (lock) {
+            return new Stats(hits.sum(), misses.sum(), promotions.sum(), evictions.sum(), entries.size(), weight);
+        }
+    }
+
+    /**
+     * 오래된 무효화 기록 / 읽기 빈도 정리 + 통계 로그
+     */
+    @Scheduled(fixedDelayString = "${community.post-cache.stats-interval-ms:60000}")
+    public void maintain() {
+        long now = System.currentTimeMillis();
+        invalidations.entrySet().removeIf(entry -> now - entry.getValue().at() > INVALIDATION_RETENTION_MS);
+        rates.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+
+        Stats stats = getStats();
+        if (stats.hits() + stats.misses() > 0) {
+            log.info("POST DETAIL CACHE: hits={}, misses={}, hitRate={}, promotions={}, evictions={}, size={}, weight={}",
+                    stats.hits(), stats.misses(), String.format("%.3f", stats.hitRate()),
+                    stats.promotions(), stats.evictions(), stats.size(), stats.weight());
+        }
+    }
+
+    private void evict(Long postId) {
+        invalidations.put(postId, new Invalidation(clock.incrementAndGet(), System.currentTimeMillis()));
+
+        synchronized (lock) {
+            Entry removed = entries.remove(postId);
+            if (removed != null) {
+                weight -= removed.weight();
+            }
+        }
+    }
+
+    private void evictWriter(Long userId) {
+        writerFloor.set(clock.incrementAndGet());
+
+        synchronized (lock) {
+            entries.entrySet().removeIf(entry -> {
+                if (userId.equals(entry.getValue().post().getUserId())) {
+                    weight -= entry.getValue().weight();
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    // lock 안에서 호출
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && iterator.hasNext()) {
+            weight -= iterator.next().getValue().weight();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private boolean isHot(Long postId) {
+        synchronized (lock) {
+            if (entries.containsKey(postId)) {
+                return true;
+            }
+        }
+        RateWindow rate = rates.get(postId);
+        return rate != null && rate.count(System.currentTimeMillis()) >= hotThreshold;
+    }
+
+    private long invalidatedVersion(Long postId) {
+        Invalidation invalidation = invalidations.get(postId);
+        return invalidation != null ? invalidation.version() : 0;
+    }
+
+    // 항목 무게 = 제목 + 본문 길이
+    private static long weigh(PostDto postDto) {
+        long length = 0;
+        if (postDto.getTitle() != null) length += postDto.getTitle().length();
+        if (postDto.getContent() != null) length += postDto.getContent().length();
+        return Math.max(length, 1);
+    }
+
+    private record Entry(long version, PostDto post, long weight) {
+    }
+
+    private record Invalidation(long version, long at) {
+    }
+
+    public record Stats(long hits, long misses, long promotions, long evictions, int size, long weight) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
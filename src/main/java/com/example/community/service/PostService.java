@@ -1,12 +1,17 @@
 package com.example.community.service;
 
+import com.example.community.domain.post.KeysetPage;
 import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PostService {
     /**
@@ -50,6 +55,35 @@ public interface PostService {
      */
     Page<PostDto> getList(Long boardId, Pageable pageable);
 
+    /**
+     * 게시판별 게시글 목록 조회 (키셋/커서 페이징, fixed DESC, id DESC)
+     * OFFSET 없이 커서 위치부터 조회하므로 깊은 페이지도 첫 페이지와 비용이 같다
+     * @param boardId 게시판 ID
+     * @param after 다음 페이지 커서 (이 커서 이후 조회)
+     * @param before 이전 페이지 커서 (이 커서 이전 조회, after보다 우선)
+     * @param size 페이지 크기
+     * @return 게시글 목록과 이전/다음 커서
+     */
+    KeysetPage<PostDto> getListByCursor(Long boardId, String after, String before, int size);
+
+    /**
+     * 메인 피드 목록 조회 (OFFSET 페이징, 공지 게시판 제외)
+     * @param pageable 페이징 정보 (PostSummary.BY_VIEWS)
+     * @param excludedBoardId 제외할 공지 게시판 ID (없으면 null)
+     * @return 게시글 페이지
+     */
+    Page<PostDto> getFeed(Pageable pageable, Long excludedBoardId);
+
+    /**
+     * 메인 피드 목록 조회 (키셋/커서 페이징, views DESC, id DESC, 공지 게시판 제외)
+     * @param after 다음 페이지 커서
+     * @param before 이전 페이지 커서 (after보다 우선)
+     * @param size 페이지 크기
+     * @param excludedBoardId 제외할 공지 게시판 ID (없으면 null)
+     * @return 게시글 목록과 이전/다음 커서
+     */
+    KeysetPage<PostDto> getFeedByCursor(String after, String before, int size, Long excludedBoardId);
+
     /**
      * 전체 게시글 목록 조회
      * @param pageable 페이징 정보
@@ -111,4 +145,32 @@ public interface PostService {
 
     // 좋아요 여부 확인
     boolean isLiked(Long postId, Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 목록 화면 좋아요 표시용 - postIds 중 회원이 좋아요한 게시글 ID
+     * 게시글 수와 상관없이 쿼리 1회 (비로그인 또는 빈 목록이면 조회 없음)
+     */
+    Set<Long> getLikedPostIds(Long userId, Collection<Long> postIds);
+
+    /**
+     * 게시글 상세 화면 검증값 (조건부 GET용, 본문은 읽지 않음)
+     * @param id 게시글 ID
+     * @return 수정 시각 / 좋아요·댓글 수 / 게시판 변경 시각 (없으면 empty)
+     */
+    Optional<PostVersion> getVersion(Long id);
+
+    /**
+     * 게시판 변경 시각 (게시글 작성/수정/삭제 시 갱신, 목록 화면 조건부 GET용)
+     */
+    Optional<LocalDateTime> getBoardChangedAt(Long boardId);
+
+    /**
+     * 회원 좋아요 변경 확인용 문자열 (좋아요/취소하면 바뀜, 비로그인이면 빈 문자열)
+     */
+    String getLikeStamp(Long userId);
+
+    /**
+     * 조회수만 증가 (화면을 다시 만들지 않는 304 응답용)
+     */
+    void countView(Long id);
+}
@@ -1,14 +1,30 @@
 package com.example.community.service;
 
+import com.example.community.domain.board.BoardStatsEntity;
+import com.example.community.domain.post.KeysetPage;
+import com.example.community.domain.post.LikeStamp;
+import com.example.community.domain.post.PostCounter;
+import com.example.community.domain.post.PostCursor;
 import com.example.community.domain.post.PostDto;
 import com.example.community.domain.post.PostEntity;
-import com.example.community.domain.post.PostLikeEntity;
+import com.example.community.domain.post.PostStatsEntity;
+import com.example.community.domain.post.PostSummary;
+import com.example.community.domain.post.PostVersion;
 import com.example.community.domain.user.UserEntity;
 import com.example.community.domain.user.UserRole;
+import com.example.community.persistence.BoardStatsRepository;
 import com.example.community.persistence.PostLikeRepository;
 import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.PostStatsRepository;
 import com.example.community.persistence.UserRepository;
+import com.example.community.search.CommentSearchIndex;
+import com.example.community.search.PostSearchIndex;
+import com.example.community.search.SearchField;
+import com.example.community.web.AnonymousPageCache;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,10 +34,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,8 +53,18 @@ import java.util.stream.Collectors;
 public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
+    private final PostStatsRepository postStatsRepository;
     private final UserRepository userRepository;
     private final PostLikeRepository postLikeRepository;
+    private final BoardStatsRepository boardStatsRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostCounterStore postCounterStore;
+    private final PopularPostRanking popularPostRanking;
+    private final PostDetailCache postDetailCache;
+    private final CommentListCache commentListCache;
+    private final AnonymousPageCache anonymousPageCache;
+    private final PostSearchIndex postSearchIndex;
+    private final CommentSearchIndex commentSearchIndex;
 
     private String getNickname(Long userId) {
         return userRepository.findById(userId)
@@ -45,11 +78,35 @@ public class PostServiceImpl implements PostService {
                 .orElse(false);
     }
 
+    /**
+     * 게시판 게시글 수 증가 (게시글 작성과 같은 트랜잭션)
+     * 집계 행이 없으면 현재 게시글 수(방금 작성한 글 포함)로 새로 만든다
+     * 동시에 다른 트랜잭션이 먼저 만들었으면(추가 0건) 그 행에 다시 +1
+     */
+    private void increaseBoardPostCount(Long boardId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (boardStatsRepository.increasePostCount(boardId, now) == 0
+                && boardStatsRepository.insertRecounted(boardId) == 0) {
+            boardStatsRepository.increasePostCount(boardId, now);
+        }
+    }
+
+    /**
+     * 게시판 게시글 수 (board_stats 집계값, 집계 행이 없으면 COUNT)
+     */
+    private long getBoardPostCount(Long boardId) {
+        return boardStatsRepository.findById(boardId)
+                .map(BoardStatsEntity::getPostCount)
+                .orElseGet(() -> postRepository.countByBoardId(boardId));
+    }
+
     /**
      * 게시글 생성
      * 게시글 ID 반환
      */
     @Override
+    @Transactional
     public Long create(Long boardId, PostDto postDto, Long userId) {
         log.info("CREATE: boardId={}, postDto={}, userId={}", boardId, postDto, userId);
 
@@ -60,14 +117,21 @@ public class PostServiceImpl implements PostService {
                 .content(postDto.getContent())
                 .postType(postDto.getPostType())
                 .fixed(postDto.getFixed())
-                .viewCount(0)
-                .commentsCount(0)
-                .likesCount(0)
                 .build();
 
         PostEntity savedEntity = postRepository.save(postEntity);
         log.info("CREATE: saved={}", savedEntity);
 
+        // 카운터 행 (조회수/좋아요/댓글 수 0)
+        postStatsRepository.save(PostStatsEntity.builder()
+                .postId(savedEntity.getId())
+                .build());
+
+        increaseBoardPostCount(boardId);
+        anonymousPageCache.invalidateBoard(boardId);
+        offerPopularPost(savedEntity.getId());
+        postSearchIndex.index(savedEntity);
+
         postDto.setId(savedEntity.getId());
         return savedEntity.getId();
     }
@@ -75,19 +139,51 @@ public class PostServiceImpl implements PostService {
     /**
      * 게시글 단건 조회
      * 작성자 닉네임 포함 DTO 반환
+     * 조회수는 ViewCountBuffer에 누적 후 주기적으로 반영 (읽기 전용 트랜잭션)
+     * 읽기가 몰리는 게시글은 PostDetailCache의 상세를 쓰고 카운터만 post_stats에서 읽는다
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDto read(Long id) {
         log.info("READ: id = {}", id);
 
+        PostDto postDto = postDetailCache.get(id)
+                .map(cached -> withStats(cached, id))
+                .orElseGet(() -> loadDetail(id));
+
+        // 조회수 증가 (메모리 누적)
+        viewCountBuffer.increase(id);
+
+        // 아직 반영되지 않은 조회수 포함
+        postDto.setViewCount(postDto.getViewCount() + (int) viewCountBuffer.getPending(id));
+        // 분산 카운터에 쌓여 아직 합산되지 않은 좋아요/댓글 수 포함
+        postDto.setLikesCount(PostCounter.displayed(
+                postDto.getLikesCount() + postCounterStore.getPending(id, PostCounter.LIKES)));
+        postDto.setCommentsCount(PostCounter.displayed(
+                postDto.getCommentsCount() + postCounterStore.getPending(id, PostCounter.COMMENTS)));
+        popularPostRanking.offer(postDto);
+        return postDto;
+    }
+
+    // 캐시된 상세 + post_stats 카운터 (post_stats 행이 없으면 삭제된 게시글)
+    private PostDto withStats(PostDto cached, Long id) {
+        PostStatsEntity stats = postStatsRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Post not found: " + id));
+
+        cached.setViewCount(stats.getViews());
+        cached.setLikesCount(stats.getLikes());
+        cached.setCommentsCount(stats.getComments());
+        return cached;
+    }
+
+    // DB에서 상세 조회 후 캐시에 올린다 (읽기가 몰리는 게시글만 실제로 올라감)
+    private PostDto loadDetail(Long id) {
+        long version = postDetailCache.nextVersion();
+
         // 게시글 조회
         PostEntity postEntity = postRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Post not found: " + id));
 
-        // 조회수 증가
-        postEntity.increaseViewCount();
-
         String nickname = "unknown";
 
         try {
@@ -100,7 +196,9 @@ public class PostServiceImpl implements PostService {
                     postEntity.getUserId(), e.getMessage());
         }
 
-        return PostDto.from(postEntity, nickname);
+        PostDto postDto = withStats(PostDto.from(postEntity, nickname), id);
+        postDetailCache.put(version, postDto);
+        return postDto;
     }
 
     /**
@@ -127,6 +225,12 @@ public class PostServiceImpl implements PostService {
                     postEntity.updateFixed(postDto.getFixed());
 
                     postRepository.save(postEntity);
+                    // 목록 화면 검증값 갱신 (제목/고정 여부가 목록에 보이므로)
+                    boardStatsRepository.touch(postEntity.getBoardId(), LocalDateTime.now());
+                    postDetailCache.invalidate(postEntity.getId());
+                    anonymousPageCache.invalidateBoard(postEntity.getBoardId());
+                    offerPopularPost(postEntity.getId());
+                    postSearchIndex.index(postEntity);
                     return true;
                 })
                 .orElse(false);
@@ -154,9 +258,20 @@ public class PostServiceImpl implements PostService {
                 return false;
             }
 
+            postStatsRepository.deleteByPostId(id);
             postRepository.delete(postEntity);
             postRepository.flush();
 
+            boardStatsRepository.decreasePostCount(postEntity.getBoardId(), LocalDateTime.now());
+            viewCountBuffer.discard(id);
+            postCounterStore.discard(id);
+            postDetailCache.invalidate(id);
+            commentListCache.invalidate(id);
+            anonymousPageCache.invalidateBoard(postEntity.getBoardId());
+            popularPostRanking.remove(id);
+            postSearchIndex.remove(id);
+            commentSearchIndex.removePost(id);
+
             return true;
         }).orElse(false);
     }
@@ -164,27 +279,137 @@ public class PostServiceImpl implements PostService {
     /**
      * 특정 게시판의 게시글 목록 조회(페이징)
      * 게시판 ID 기준 조회
+     * 전체 건수는 COUNT(*) 대신 board_stats 집계값 사용
      */
     @Override
     @Transactional(readOnly = true)
     public Page<PostDto> getList(Long boardId, Pageable pageable) {
         log.info("GET LIST: boardId={}, pageable={}", boardId, pageable);
 
-        return postRepository.findByBoardId(boardId, pageable)
-                .map(this::convertToDto);
+        List<PostSummary> posts = postRepository.findListByBoardId(boardId, pageable);
+
+        return new PageImpl<>(convertSummaryList(posts), pageable, getBoardPostCount(boardId));
+    }
+
+    /**
+     * 특정 게시판의 게시글 목록 조회(키셋 페이징)
+     * (fixed, id) 커서 기준으로 OFFSET 없이 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<PostDto> getListByCursor(Long boardId, String after, String before, int size) {
+        log.info("GET LIST BY CURSOR: boardId={}, after={}, before={}, size={}", boardId, after, before, size);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        Optional<PostCursor> beforeCursor = PostCursor.decode(before);
+        if (beforeCursor.isPresent()) {
+            PostCursor cursor = beforeCursor.get();
+            List<PostSummary> rows = postRepository.findByBoardIdBefore(
+                    boardId, (short) cursor.getKey(), cursor.getId(), limit);
+            return toKeysetPage(rows, size, true, true, PostCursor::ofBoard);
+        }
+
+        // 커서가 없으면 첫 페이지
+        Optional<PostCursor> afterCursor = PostCursor.decode(after);
+        PostCursor cursor = afterCursor.orElse(PostCursor.of(Short.MAX_VALUE, Long.MAX_VALUE));
+        List<PostSummary> rows = postRepository.findByBoardIdAfter(
+                boardId, (short) cursor.getKey(), cursor.getId(), limit);
+
+        return toKeysetPage(rows, size, false, afterCursor.isPresent(), PostCursor::ofBoard);
+    }
+
+    /**
+     * 메인 피드 목록 조회(OFFSET 페이징)
+     * 공지 게시판은 쿼리에서 제외 (조회 후 걸러내면 페이지가 덜 찬다)
+     * 전체 건수는 board_stats 집계 합계 - 공지 게시판 게시글 수
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostDto> getFeed(Pageable pageable, Long excludedBoardId) {
+        log.info("GET FEED: pageable={}, excludedBoardId={}", pageable, excludedBoardId);
+
+        List<PostSummary> posts = postRepository.findFeed(excludedBoardId, pageable);
+        long total = boardStatsRepository.sumPostCount()
+                - (excludedBoardId == null ? 0 : getBoardPostCount(excludedBoardId));
+
+        return new PageImpl<>(convertSummaryList(posts), pageable, Math.max(total, 0));
+    }
+
+    /**
+     * 메인 피드 목록 조회(키셋 페이징)
+     * (views, id) 커서 기준으로 OFFSET 없이 조회 (조회수가 같으면 id로 순서 고정)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<PostDto> getFeedByCursor(String after, String before, int size, Long excludedBoardId) {
+        log.info("GET FEED BY CURSOR: after={}, before={}, size={}, excludedBoardId={}",
+                after, before, size, excludedBoardId);
+
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        Optional<PostCursor> beforeCursor = PostCursor.decode(before);
+        if (beforeCursor.isPresent()) {
+            PostCursor cursor = beforeCursor.get();
+            List<PostSummary> rows = postRepository.findFeedBefore(
+                    excludedBoardId, (int) cursor.getKey(), cursor.getId(), limit);
+            return toKeysetPage(rows, size, true, true, PostCursor::ofFeed);
+        }
+
+        Optional<PostCursor> afterCursor = PostCursor.decode(after);
+        PostCursor cursor = afterCursor.orElse(PostCursor.of(Integer.MAX_VALUE, Long.MAX_VALUE));
+        List<PostSummary> rows = postRepository.findFeedAfter(
+                excludedBoardId, (int) cursor.getKey(), cursor.getId(), limit);
+
+        return toKeysetPage(rows, size, false, afterCursor.isPresent(), PostCursor::ofFeed);
+    }
+
+    /**
+     * 키셋 조회 결과(size + 1건)를 KeysetPage로 변환
+     * @param rows 조회 결과 (backward면 역순)
+     * @param size 페이지 크기
+     * @param backward 이전 페이지 방향 조회 여부
+     * @param fromCursor 커서 위치부터 조회했는지 여부 (false면 첫 페이지)
+     * @param cursorOf 게시글 -> 커서 변환 함수
+     */
+    private KeysetPage<PostDto> toKeysetPage(List<PostSummary> rows, int size, boolean backward,
+                                             boolean fromCursor, Function<PostSummary, PostCursor> cursorOf) {
+        boolean hasMore = rows.size() > size;
+        List<PostSummary> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+
+        if (backward) {
+            Collections.reverse(content);
+        }
+
+        if (content.isEmpty()) {
+            return new KeysetPage<>(List.of(), null, null);
+        }
+
+        // 정방향: 이전 페이지는 커서로 들어온 경우만, 다음 페이지는 남은 건이 있을 때만
+        // 역방향: 이전 페이지는 남은 건이 있을 때만, 다음 페이지는 항상 존재
+        boolean hasPrev = backward ? hasMore : fromCursor;
+        boolean hasNext = backward || hasMore;
+
+        String prevCursor = hasPrev ? cursorOf.apply(content.get(0)).encode() : null;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+
+        return new KeysetPage<>(convertSummaryList(content), prevCursor, nextCursor);
     }
 
     /**
      *전체 게시글 목록 조회
      * 관리자 화면 또는 메인 통합 목록에서 사용
+     * 전체 건수는 COUNT(*) 대신 board_stats 집계 합계 사용
      */
     @Override
     @Transactional(readOnly = true)
     public Page<PostDto> getAllPosts(Pageable pageable) {
         log.info("GET ALL POSTS: pageable={}", pageable);
 
-        return postRepository.findAll(pageable)
-                .map(this::convertToDto);
+        List<PostSummary> posts = postRepository.findList(pageable);
+
+        return new PageImpl<>(convertSummaryList(posts), pageable, boardStatsRepository.sumPostCount());
     }
 
     /**
@@ -202,7 +427,19 @@ public class PostServiceImpl implements PostService {
             return getAllPosts(pageable);
         }
 
-        Page<PostEntity> resultPage;
+        // 제목/내용 검색은 전문 검색 색인 사용 (1글자 검색어 등 색인으로 처리할 수 없으면 DB 검색)
+        Optional<SearchField> searchField = SearchField.from(searchType);
+        if (searchField.isPresent() && postSearchIndex.canSearch(keyword)) {
+            return getSearchPage(postSearchIndex.search(searchField.get(), keyword, null), pageable);
+        }
+
+        // 댓글 내용/작성자 검색은 댓글 검색 색인 사용
+        Optional<List<Long>> commentHits = searchCommentIndex(searchType, keyword, null);
+        if (commentHits.isPresent()) {
+            return getSearchPage(commentHits.get(), pageable);
+        }
+
+        Page<PostSummary> resultPage;
 
         switch (searchType) {
             case "title":
@@ -225,36 +462,148 @@ public class PostServiceImpl implements PostService {
                 break;
             default:
                 log.warn("SEARCH: invalid searchType={}, using titleContent", searchType);
+                if (postSearchIndex.canSearch(keyword)) {
+                    return getSearchPage(postSearchIndex.search(SearchField.TITLE_CONTENT, keyword, null), pageable);
+                }
                 resultPage = postRepository.searchByTitleOrContent(keyword, pageable);
         }
 
-        return resultPage.map(this::convertToDto);
+        return convertToDtoPage(resultPage);
+    }
+
+    /**
+     * 댓글 내용/작성자 검색 (댓글 검색 색인)
+     * 댓글 검색이 아니거나 색인으로 처리할 수 없으면 empty
+     */
+    private Optional<List<Long>> searchCommentIndex(String searchType, String keyword, Long boardId) {
+        if ("commentContent".equals(searchType) && commentSearchIndex.canSearchContent(keyword)) {
+            return Optional.of(commentSearchIndex.searchContent(keyword, boardId));
+        }
+
+        if ("commentWriter".equals(searchType) && commentSearchIndex.isReady()) {
+            // 닉네임 -> 회원 ID는 users 테이블에서, 회원 ID -> 게시글 ID는 색인에서
+            List<Long> userIds = userRepository.findIdsByNicknameContaining(keyword);
+            return Optional.of(userIds.isEmpty() ? List.of() : commentSearchIndex.searchByAuthors(userIds, boardId));
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * 검색 색인 결과(게시글 ID, 점수순) 중 요청 페이지만 DB에서 조회
+     * 그 사이 삭제된 게시글은 제외
+     */
+    private Page<PostDto> getSearchPage(List<Long> postIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), postIds.size());
+        int to = Math.min(from + pageable.getPageSize(), postIds.size());
+        List<Long> pageIds = postIds.subList(from, to);
+
+        Map<Long, PostSummary> postMap = postRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+
+        List<PostSummary> posts = pageIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(convertSummaryList(posts), pageable, postIds.size());
     }
 
     /**
      * 인기 게시글 조회
-     * 조회수 기준 상위 게시글 반환
+     * 조회수 기준 상위 게시글 반환 (메모리 랭킹에서 조회, DB 접근 없음)
      */
     @Override
-    @Transactional(readOnly = true)
     public Page<PostDto> getPopularPosts(Pageable pageable) {
-        log.info("GET POPULAR POSTS: pageable={}", pageable);
+        log.debug("GET POPULAR POSTS: pageable={}", pageable);
 
-        return postRepository.findTopByViewCount(pageable)
-                .map(this::convertToDto);
+        if (popularPostRanking.isStale()) {
+            loadPopularPosts();
+        }
+
+        List<PostDto> ranking = popularPostRanking.getTop(PopularPostRanking.CAPACITY);
+        int from = (int) Math.min(pageable.getOffset(), ranking.size());
+        int to = Math.min(from + pageable.getPageSize(), ranking.size());
+
+        return new PageImpl<>(ranking.subList(from, to), pageable, ranking.size());
     }
 
     /**
-     * PostEntity를 PostDto로 변환 (닉네임 포함)
-     * @param postEntity 게시글 엔티티
-     * @return 게시글 DTO
+     * 인기 게시글 랭킹을 DB 조회수 기준으로 다시 채움
+     * 애플리케이션 시작 시, 랭킹이 stale 상태일 때 실행
+     * 동시에 여러 요청이 들어와도 조회는 한 번만 (나머지는 기존 랭킹을 그대로 사용)
      */
-    private PostDto convertToDto(PostEntity postEntity) {
-        String nickname = userRepository.findById(postEntity.getUserId())
-                .map(user -> user.getNickname())
-                .orElse("unknown");
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPopularPosts() {
+        if (!popularPostRanking.tryStartRefill()) {
+            return;
+        }
+
+        boolean loaded = false;
+        try {
+            List<PostDto> posts = convertSummaryList(postRepository
+                    .findPopular(PageRequest.of(0, PopularPostRanking.CAPACITY)));
+
+            // 아직 반영되지 않은 조회수 포함
+            posts.forEach(post -> post.setViewCount(post.getViewCount() + (int) viewCountBuffer.getPending(post.getId())));
+
+            popularPostRanking.reset(posts);
+            loaded = true;
+        } finally {
+            popularPostRanking.finishRefill(loaded);
+        }
+    }
+
+    /**
+     * 변경된 게시글을 인기 게시글 랭킹에 반영 (랭킹에 들 수 있는 경우만 닉네임 조회)
+     * 카운터는 post_stats에서 목록용 프로젝션으로 읽는다
+     */
+    private void offerPopularPost(Long postId) {
+        postRepository.findSummariesByIdIn(List.of(postId)).stream().findFirst().ifPresent(post -> {
+            int viewCount = post.getViewCount() + (int) viewCountBuffer.getPending(postId);
+
+            if (!popularPostRanking.accepts(postId, viewCount)) {
+                return;
+            }
+
+            PostDto postDto = PostDto.from(post, getNickname(post.getUserId()));
+            postDto.setViewCount(viewCount);
+            popularPostRanking.offer(postDto);
+        });
+    }
+
+    /**
+     * 게시글 목록의 작성자 닉네임을 IN 쿼리 한 번으로 조회
+     * 페이지 크기와 상관없이 users 조회는 1회
+     * @param posts 게시글 목록 프로젝션
+     * @return 회원 ID -> 닉네임 맵
+     */
+    private Map<Long, String> getNicknameMap(Collection<PostSummary> posts) {
+        Set<Long> userIds = posts.stream()
+                .map(PostSummary::getUserId)
+                .collect(Collectors.toSet());
+
+        return userRepository.findNicknameMap(userIds);
+    }
+
+    /**
+     * 목록 프로젝션 -> DTO 목록 변환 (작성자 닉네임 일괄 조회, 본문 없음)
+     */
+    private List<PostDto> convertSummaryList(List<PostSummary> posts) {
+        Map<Long, String> nicknameMap = getNicknameMap(posts);
+
+        return posts.stream()
+                .map(post -> PostDto.from(post, nicknameMap.getOrDefault(post.getUserId(), "unknown")))
+                .collect(Collectors.toList());
+    }
 
-        return PostDto.from(postEntity, nickname);
+    /**
+     * 게시글 페이지 -> DTO 페이지 변환 (작성자 닉네임 일괄 조회)
+     */
+    private Page<PostDto> convertToDtoPage(Page<PostSummary> page) {
+        Map<Long, String> nicknameMap = getNicknameMap(page.getContent());
+
+        return page.map(post -> PostDto.from(post, nicknameMap.getOrDefault(post.getUserId(), "unknown")));
     }
 
     /**
@@ -266,9 +615,25 @@ public class PostServiceImpl implements PostService {
     public Page<PostDto> searchPostsInBoard(Long boardId, String searchType, String keyword, Pageable pageable) {
         log.info("SEARCH IN BOARD: boardId={}, searchType={}, keyword={}", boardId, searchType, keyword);
 
-        Page<PostEntity> entities = postRepository.findByBoardIdAndSearchType(boardId, searchType, keyword, pageable);
+        // 제목/내용 검색은 전문 검색 색인 사용
+        Optional<SearchField> searchField = SearchField.from(searchType);
+        if (searchField.isPresent() && postSearchIndex.canSearch(keyword)) {
+            return getSearchPage(postSearchIndex.search(searchField.get(), keyword, boardId), pageable);
+        }
+
+        // 댓글 내용/작성자 검색은 댓글 검색 색인 사용
+        Optional<List<Long>> commentHits = searchCommentIndex(searchType, keyword, boardId);
+        if (commentHits.isPresent()) {
+            return getSearchPage(commentHits.get(), pageable);
+        }
+
+        Page<PostSummary> posts = switch (searchType == null ? "" : searchType) {
+            case "commentContent" -> postRepository.searchByCommentContentInBoard(boardId, keyword, pageable);
+            case "commentWriter" -> postRepository.searchByCommentWriterInBoard(boardId, keyword, pageable);
+            default -> postRepository.findByBoardIdAndSearchType(boardId, searchType, keyword, pageable);
+        };
 
-        return entities.map(this::convertToDto);
+        return convertToDtoPage(posts);
     }
 
     /**
@@ -301,10 +666,7 @@ public class PostServiceImpl implements PostService {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        return postRepository.findByUserId(userId, pageable)
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertSummaryList(postRepository.findByUserId(userId, pageable).getContent());
     }
 
     /**
@@ -319,8 +681,9 @@ public class PostServiceImpl implements PostService {
     public Optional<PostDto> getPreviousPost(Long boardId, Long currentPostId) {
         log.info("이전 게시물 조회: boardId={}, currentPostId={}", boardId, currentPostId);
 
-        return postRepository.findFirstByBoardIdAndIdGreaterThanOrderByIdAsc(boardId, currentPostId)
-                .map(this::convertToDto);
+        return postRepository.findPrevious(boardId, currentPostId, PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(post -> PostDto.from(post, getNickname(post.getUserId())));
     }
 
     /**
@@ -335,35 +698,40 @@ public class PostServiceImpl implements PostService {
     public Optional<PostDto> getNextPost(Long boardId, Long currentPostId) {
         log.info("다음 게시물 조회: boardId={}, currentPostId={}", boardId, currentPostId);
 
-        return postRepository.findFirstByBoardIdAndIdLessThanOrderByIdDesc(boardId, currentPostId)
-                .map(this::convertToDto);
+        return postRepository.findNext(boardId, currentPostId, PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(post -> PostDto.from(post, getNickname(post.getUserId())));
     }
 
     @Override
     @Transactional
     public Map<String, Object> toggleLike(Long postId, Long userId) {
-        PostEntity post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("Post not found: " + postId));
+        // 1) 좋아요 취소 시도, 지울 행이 없으면 추가 시도 (유니크 키 (post_id, user_id) 기준)
+        int removed = postLikeRepository.deleteByPostIdAndUserId(postId, userId);
+        int added = removed == 0 ? postLikeRepository.insertIgnore(postId, userId) : 0;
+
+        // 2) 실제로 바뀐 행 수만큼 좋아요 수 증감 (쓰기가 몰리는 게시글은 분산 카운터에 누적)
+        int delta = added - removed;
+        if (delta != 0 && !postCounterStore.tryAdd(postId, PostCounter.LIKES, delta)) {
+            postStatsRepository.addLikes(postId, delta);
+        }
 
-        Map<String, Object> result = new HashMap<>();
+        // 게시글이 없으면 예외 (좋아요 변경도 함께 롤백)
+        int likesCount = PostCounter.displayed(postStatsRepository.findLikesByPostId(postId)
+                .orElseThrow(() -> new EntityNotFoundException("Post not found: " + postId))
+                + postCounterStore.getPending(postId, PostCounter.LIKES));
+
+        // 동시에 같은 좋아요가 추가된 경우(removed == 0, added == 0)도 좋아요 상태
+        boolean liked = removed == 0;
+        log.info("TOGGLE LIKE: postId={}, userId={}, liked={}, likesCount={}", postId, userId, liked, likesCount);
 
-        if (postLikeRepository.existsByPostIdAndUserId(postId, userId)) {
-            // 좋아요 취소
-            postLikeRepository.findByPostIdAndUserId(postId, userId)
-                    .ifPresent(postLikeRepository::delete);
-            post.decreaseLikesCount();
-            result.put("liked", false);
-        } else {
-            // 좋아요 추가
-            postLikeRepository.save(PostLikeEntity.builder()
-                    .postId(postId)
-                    .userId(userId)
-                    .build());
-            post.increaseLikesCount();
-            result.put("liked", true);
+        if (delta != 0 && popularPostRanking.contains(postId)) {
+            offerPopularPost(postId);
         }
 
-        result.put("likesCount", post.getLikesCount());
+        Map<String, Object> result = new HashMap<>();
+        result.put("liked", liked);
+        result.put("likesCount", likesCount);
         return result;
     }
 
@@ -372,4 +740,47 @@ public class PostServiceImpl implements PostService {
     public boolean isLiked(Long postId, Long userId) {
         return postLikeRepository.existsByPostIdAndUserId(postId, userId);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> getLikedPostIds(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return Set.copyOf(postLikeRepository.findLikedPostIds(userId, Set.copyOf(postIds)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PostVersion> getVersion(Long id) {
+        return postRepository.findVersionById(id)
+                // 분산 카운터에 쌓여 아직 합산되지 않은 좋아요/댓글 수 포함 (read()와 같은 값)
+                .map(version -> new PostVersion(version.getId(), version.getBoardId(), version.getUpdatedAt(),
+                        version.getLikesCount() + (int) postCounterStore.getPending(id, PostCounter.LIKES),
+                        version.getCommentsCount() + (int) postCounterStore.getPending(id, PostCounter.COMMENTS),
+                        version.getBoardChangedAt()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getBoardChangedAt(Long boardId) {
+        return boardStatsRepository.findChangedAtByBoardId(boardId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getLikeStamp(Long userId) {
+        if (userId == null) {
+            return "";
+        }
+
+        LikeStamp stamp = postLikeRepository.findLikeStamp(userId);
+        return stamp.getCount() + ":" + stamp.getMaxId();
+    }
+
+    @Override
+    public void countView(Long id) {
+        viewCountBuffer.increase(id);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.community.service;
+
+/**
+ * 1초 단위 요청 횟수 (게시글별 쓰기/읽기 빈도 측정용)
+ */
+final class RateWindow {
+    private long second;
+    private int count;
+
+    synchronized int record(long now) {
+        long current = now / 1000;
+        if (current != second) {
+            second = current;
+            count = 0;
+        }
+        return ++count;
+    }
+
+    // 현재 1초 구간의 횟수 (기록하지 않음)
+    synchronized int count(long now) {
+        return now / 1000 == second ? count : 0;
+    }
+
+    synchronized boolean isIdle(long now) {
+        return now / 1000 - second > 1;
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.community.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 읽지 않은 쪽지 수 실시간 알림 (SSE)
+ *
+ * 쪽지 화면마다 unread-count API를 호출하던 배지를 SSE 연결 하나로 바꾼다
+ * - 접속 중인 회원의 안 읽은 쪽지 수를 메모리에 들고 있어, 화면을 옮겨 다시 연결해도 조회하지 않는다
+ * - 쪽지 발송/읽음/휴지통 이동/복구 시 publish() -> 커밋 후 한 번만 다시 세어 그 회원의 연결에 보낸다
+ * - 새 쪽지는 message 이벤트로 제목/보낸 사람도 함께 보낸다
+ * - 연결은 스레드를 잡지 않고(비동기 요청), 전송은 가상 스레드에서 처리한다
+ * - 버전 규칙은 PostDetailCache와 같다 (마지막 변경보다 먼저 세기 시작한 값은 올리지 않음)
+ */
+@Component
+@Slf4j
+public class UnreadMessageNotifier {
+
+    public static final String UNREAD_COUNT = "unread-count";
+    public static final String MESSAGE = "message";
+
+    private final long timeoutMs;
+    private final int maxConnectionsPerUser;
+    private final long lingerMs;
+
+    // 회원 아이디 -> 연결 + 안 읽은 쪽지 수
+    private final ConcurrentHashMap<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public UnreadMessageNotifier(@Value("${community.message-stream.timeout-ms:1800000}") long timeoutMs,
+                                 @Value("${community.message-stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+                                 @Value("${community.message-stream.linger-ms:60000}") long lingerMs) {
+        this.timeoutMs = timeoutMs;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.lingerMs = lingerMs;
+    }
+
+    /**
+     * 연결 등록 후 현재 안 읽은 쪽지 수를 바로 보낸다
+     * 메모리에 수가 없을 때만 loader로 조회
+     */
+    public SseEmitter subscribe(String username, LongSupplier loader) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // 연결 추가를 맵 갱신 안에서 처리 (heartbeat의 정리와 겹쳐 버려진 Subscriber에 붙지 않도록)
+        Subscriber subscriber = subscribers.compute(username, (key, current) -> {
+            Subscriber target = current != null ? current : new Subscriber();
+            target.emitters().add(emitter);
+            return target;
+        });
+
+        emitter.onCompletion(() -> remove(subscriber, emitter));
+        emitter.onTimeout(() -> remove(subscriber, emitter));
+        emitter.onError(e -> remove(subscriber, emitter));
+        trimConnections(subscriber);
+
+        Long count = subscriber.count;
+        if (count == null) {
+            long version = subscriber.version.get();
+            count = loader.getAsLong();
+            subscriber.store(version, count);
+        }
+
+        send(emitter, UNREAD_COUNT, count);
+        return emitter;
+    }
+
+    /**
+     * 안 읽은 쪽지 수가 바뀌었을 때 호출
+     * 트랜잭션 안이면 커밋 후에 counter로 다시 세어 보낸다 (접속 중이 아니면 아무것도 하지 않음)
+     *
+     * @param notice 새 쪽지 알림 (없으면 null)
+     */
+    public void publish(String username, LongSupplier counter, Notice notice) {
+        Subscriber subscriber = subscribers.get(username);
+        if (subscriber != null) {
+            subscriber.invalidate();
+        }
+
+        afterCommit(() -> {
+            Subscriber current = subscribers.get(username);
+            if (current != null) {
+                executor.execute(() -> refresh(username, current, counter, notice));
+            }
+        });
+    }
+
+    /**
+     * 연결 유지용 주석 전송 + 끊긴 지 오래된 회원 정리
+     */
+    @Scheduled(fixedDelayString = "${community.message-stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        int connections = 0;
+
+        for (String username : subscribers.keySet()) {
+            // 연결 없는 회원 정리는 맵 갱신 안에서 다시 확인 후 제거 (같은 순간 subscribe()로 붙은 연결을 버리지 않도록)
+            Subscriber subscriber = subscribers.computeIfPresent(username, (key, current) ->
+                    current.emitters().isEmpty() && now - current.idleSince > lingerMs ? null : current);
+            if (subscriber == null || subscriber.emitters().isEmpty()) {
+                continue;
+            }
+
+            connections += subscriber.emitters().size();
+            subscriber.emitters().forEach(emitter -> executor.execute(() -> ping(subscriber, emitter)));
+        }
+
+        if (connections > 0) {
+            log.info("UNREAD MESSAGE STREAM: users={}, connections={}", subscribers.size(), connections);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        subscribers.values().forEach(subscriber -> subscriber.emitters().forEach(SseEmitter::complete));
+        executor.shutdownNow();
+    }
+
+    private void refresh(String username, Subscriber subscriber, LongSupplier counter, Notice notice) {
+        try {
+            long version = subscriber.version.incrementAndGet();
+            long count = counter.getAsLong();
+            subscriber.store(version, count);
+
+            for (SseEmitter emitter : subscriber.emitters()) {
+                if (notice != null) {
+                    send(emitter, MESSAGE, notice);
+                }
+                send(emitter, UNREAD_COUNT, count);
+            }
+        } catch (RuntimeException e) {
+            log.warn("UNREAD MESSAGE STREAM: refresh failed. username={}", username, e);
+        }
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 브라우저가 연결을 끊음 -> onError/onCompletion에서 정리
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void ping(Subscriber subscriber, SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().comment("ping"));
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Subscriber subscriber, SseEmitter emitter) {
+        if (subscriber.emitters().remove(emitter) && subscriber.emitters().isEmpty()) {
+            subscriber.idleSince = System.currentTimeMillis();
+        }
+    }
+
+    // 한 회원의 연결이 너무 많으면 오래된 연결부터 닫음 (닫힌 탭이 정리되지 않은 경우)
+    private void trimConnections(Subscriber subscriber) {
+        Iterator<SseEmitter> iterator = subscriber.emitters().iterator();
+        while (subscriber.emitters().size() > maxConnectionsPerUser && iterator.hasNext()) {
+            SseEmitter oldest = iterator.next();
+            subscriber.emitters().remove(oldest);
+            oldest.complete();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // 회원 한 명의 연결 + 마지막으로 센 안 읽은 쪽지 수 (null이면 다시 세야 함)
+    private static final class Subscriber {
+
+        private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+        private final AtomicLong version = new AtomicLong();
+        private volatile Long count;
+        private volatile long idleSince = System.currentTimeMillis();
+
+        Set<SseEmitter> emitters() {
+            return emitters;
+        }
+
+        void invalidate() {
+            synchronized (this) {
+                version.incrementAndGet();
+                count = null;
+            }
+        }
+
+        // 세기 시작한 뒤 변경이 없었을 때만 저장
+        void store(long version, long count) {
+            synchronized (this) {
+                if (this.version.get() == version) {
+                    this.count = count;
+                }
+            }
+        }
+    }
+
+    /**
+     * 새 쪽지 알림
+     */
+    public record Notice(Long id, String title, String senderNickname) {
+    }
+}
@@ -21,6 +21,8 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PostDetailCache postDetailCache;
+    private final CommentListCache commentListCache;
 
     @Override
     public void create(@NotNull UserDto userDto){
@@ -75,6 +77,7 @@ public class UserServiceImpl implements UserService {
             if (userDto.getNickname() != null && !userDto.getNickname().equals(userEntity.getNickname())) {
                 checkNicknameAvailability(userDto.getNickname());
                 userEntity.updateNickname(userDto.getNickname());
+                invalidateWriter(userEntity.getId());
             }
 
             // 이메일 변경
@@ -102,6 +105,7 @@ public class UserServiceImpl implements UserService {
         return userRepository.findById(id).map(userEntity -> {
 
             userRepository.delete(userEntity);
+            invalidateWriter(id);
 
 
             log.info("회원 탈퇴 완료: id={}", id);
@@ -110,6 +114,12 @@ public class UserServiceImpl implements UserService {
     }
 
 
+    // 작성자 닉네임이 들어 있는 캐시 무효화 (게시글 상세 / 댓글 목록)
+    private void invalidateWriter(Long userId) {
+        postDetailCache.invalidateWriter(userId);
+        commentListCache.invalidateWriter(userId);
+    }
+
      // 아이디 사용 가능 여부 확인
     private void checkUsernameAvailability(@NotNull String username) {
         if (userRepository.existsByUsername(username)) {
@@ -163,6 +173,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         user.updateNickname(nickname);
+        invalidateWriter(userId);
 
         log.info("닉네임 수정 완료: userId={}", userId);
     }
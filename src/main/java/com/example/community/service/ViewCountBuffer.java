@@ -0,0 +1,97 @@
+package com.example.community.service;
+
+import com.example.community.persistence.PostStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼
+ *
+ * 게시글 조회마다 posts 행을 갱신하지 않고 메모리(게시글별 누적 조회수)에 모아 두었다가
+ * 주기적으로 UPDATE post_stats SET views = views + ? WHERE post_id IN (...) 로 한 번에 반영한다
+ * - 같은 증가량끼리 묶어서 UPDATE 1회로 처리
+ * - 애플리케이션 종료 시 남은 증가분도 반영
+ * - 증가(merge)와 반영 시 꺼내기(remove)는 맵 갱신 하나로 처리 (반영 도중 들어온 조회수가 빠지지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountBuffer {
+
+    private final PostStatsRepository postStatsRepository;
+
+    // 게시글 ID -> 아직 DB에 반영되지 않은 조회수
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     */
+    public void increase(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPending(Long postId) {
+        return pending.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 삭제된 게시글의 누적분 제거
+     */
+    public void discard(Long postId) {
+        pending.remove(postId);
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${community.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 증가량 -> 게시글 ID 목록
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+
+        // 항목을 통째로 꺼낸다 (꺼낸 뒤 들어온 조회수는 새 항목에 쌓여 다음 주기에 반영)
+        for (Long postId : pending.keySet()) {
+            Long delta = pending.remove(postId);
+            if (delta != null && delta > 0) {
+                idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(postId);
+            }
+        }
+
+        idsByDelta.forEach((delta, postIds) -> {
+            try {
+                postStatsRepository.increaseViews(postIds, delta.intValue());
+            } catch (RuntimeException e) {
+                // 반영 실패 시 다음 주기에 다시 시도
+                log.warn("VIEW COUNT FLUSH FAILED: delta={}, postIds={}, reason={}", delta, postIds, e.getMessage());
+                postIds.forEach(postId -> pending.merge(postId, delta, Long::sum));
+            }
+        });
+
+        log.debug("VIEW COUNT FLUSH: {}", idsByDelta);
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("VIEW COUNT FLUSH ON SHUTDOWN: {} posts pending", pending.size());
+        flush();
+    }
+}
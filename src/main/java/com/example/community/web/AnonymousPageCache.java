@@ -0,0 +1,243 @@
+package com.example.community.web;
+
+import jakarta.servlet.ServletException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비로그인 화면 마이크로 캐시 (애플리케이션 전역)
+ *
+ * 비로그인 방문자에게는 메인 / 게시판 목록 화면이 모두 같으므로 렌더링 결과를 URL(+ 쿼리)별로 ttl-ms 동안 재사용한다
+ * - 같은 URL의 캐시가 없을 때 동시에 들어온 요청은 한 요청만 렌더링하고 나머지는 그 결과를 기다린다 (single-flight)
+ * - 게시글 작성/수정/삭제 시 invalidateBoard(boardId) -> 해당 게시판 목록과 메인 화면을 버린다
+ * - 게시판 생성/수정/삭제 시 invalidateAll()
+ * - 렌더링 시작 후 무효화가 있었으면 결과를 올리지 않는다 (PostDetailCache와 같은 버전 규칙)
+ */
+@Component
+@Slf4j
+public class AnonymousPageCache {
+
+    // 메인 화면 등 특정 게시판에 속하지 않는 화면
+    public static final long MAIN = 0L;
+
+    private final long ttlMs;
+    private final int maxEntries;
+    private final Duration waitTimeout;
+
+    // 버전 발급용 (렌더링 시작/무효화마다 증가)
+    private final AtomicLong clock = new AtomicLong();
+
+    // URL -> 렌더링 결과
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // URL -> 렌더링 중인 요청의 결과 (single-flight)
+    private final ConcurrentHashMap<String, CompletableFuture<CachedPage>> inFlight = new ConcurrentHashMap<>();
+    // 게시판 ID(메인은 MAIN) -> 마지막 무효화 버전
+    private final ConcurrentHashMap<Long, Long> invalidations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public AnonymousPageCache(@Value("${community.page-cache.ttl-ms:3000}") long ttlMs,
+                              @Value("${community.page-cache.max-entries:1000}") int maxEntries,
+                              @Value("${community.page-cache.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+    }
+
+    public boolean isEnabled() {
+        return ttlMs > 0;
+    }
+
+    /**
+     * 캐시된 화면을 돌려주거나, 없으면 render로 한 번만 만든다
+     * 캐시할 수 없는 응답(render가 null 반환)이면 기다리던 요청은 page 없이 돌아가 각자 렌더링한다
+     *
+     * @param key    URL + 쿼리
+     * @param tag    게시판 ID (메인 화면은 MAIN)
+     * @param render 화면 렌더링 (이 요청의 응답에 직접 쓰고, 캐시할 결과를 반환)
+     */
+    public Lookup lookup(String key, long tag, Renderer render) throws IOException, ServletException {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            hits.increment();
+            return Lookup.hit(entry.page());
+        }
+
+        CompletableFuture<CachedPage> mine = new CompletableFuture<>();
+        CompletableFuture<CachedPage> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return Lookup.hit(await(key, running));
+        }
+
+        misses.increment();
+        long version = clock.incrementAndGet();
+        CachedPage page = null;
+        try {
+            page = render.render();
+            if (page != null) {
+                store(key, tag, version, page);
+            }
+        } finally {
+            mine.complete(page);
+            inFlight.remove(key, mine);
+        }
+        return Lookup.rendered();
+    }
+
+    /**
+     * 게시판 글이 바뀌었을 때 무효화 (해당 게시판 목록 + 메인 화면)
+     * 트랜잭션 안에서 호출되면 커밋/롤백 후에도 한 번 더 무효화 (커밋 전 상태가 캐시에 남지 않도록)
+     */
+    public void invalidateBoard(Long boardId) {
+        evict(boardId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(boardId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 모든 화면 무효화 (게시판 생성/수정/삭제 - 모든 화면의 게시판 메뉴가 바뀜)
+     */
+    public void invalidateAll() {
+        invalidations.put(MAIN, clock.incrementAndGet());
+        entries.clear();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidations.put(MAIN, clock.incrementAndGet());
+                    entries.clear();
+                }
+            });
+        }
+    }
+
+    /**
+     * 만료된 화면 정리 + 통계 로그
+     */
+    @Scheduled(fixedDelayString = "${community.page-cache.stats-interval-ms:60000}")
+    public void maintain() {
+        purgeExpired();
+
+        long total = hits.sum() + misses.sum() + coalesced.sum();
+        if (total > 0) {
+            log.info("ANONYMOUS PAGE CACHE: hits={}, coalesced={}, renders={}, size={}",
+                    hits.sum(), coalesced.sum(), misses.sum(), entries.size());
+        }
+    }
+
+    public long getHits() {
+        return hits.sum() + coalesced.sum();
+    }
+
+    private CachedPage await(String key, CompletableFuture<CachedPage> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("ANONYMOUS PAGE CACHE: render wait timed out. key={}", key);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private void store(String key, long tag, long version, CachedPage page) {
+        // 렌더링을 시작한 뒤 게시판/메인 화면이 무효화됐으면 올리지 않음
+        if (isStale(tag, version)) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            purgeExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+
+        entries.put(key, new Entry(tag, System.currentTimeMillis() + ttlMs, page));
+
+        // 저장 직전에 무효화가 끼어들었으면 다시 버림
+        if (isStale(tag, version)) {
+            entries.remove(key);
+        }
+    }
+
+    private boolean isStale(long tag, long version) {
+        return version <= invalidations.getOrDefault(tag, 0L) || version <= invalidations.getOrDefault(MAIN, 0L);
+    }
+
+    private void evict(Long boardId) {
+        long version = clock.incrementAndGet();
+        invalidations.put(boardId, version);
+        // 메인 화면은 모든 게시판의 글을 보여주므로 함께 무효화
+        invalidations.merge(MAIN, version, Math::max);
+
+        entries.entrySet().removeIf(entry -> entry.getValue().tag() == boardId || entry.getValue().tag() == MAIN);
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+    }
+
+    private record Entry(long tag, long expiresAt, CachedPage page) {
+    }
+
+    /**
+     * 화면 렌더링 (FilterChain 실행)
+     */
+    @FunctionalInterface
+    public interface Renderer {
+        CachedPage render() throws IOException, ServletException;
+    }
+
+    /**
+     * 렌더링된 화면
+     * body는 요청마다 다른 CSRF 토큰 자리에서 잘라 둔 조각 (응답 시 요청의 토큰으로 이어 붙인다)
+     */
+    public record CachedPage(List<String> bodyParts, String contentType, String charset,
+                             String etag, String lastModified, String cacheControl) {
+    }
+
+    /**
+     * 조회 결과 - rendered면 이 요청이 직접 렌더링해서 응답까지 끝남
+     */
+    public record Lookup(boolean rendered, CachedPage page) {
+
+        static Lookup hit(CachedPage page) {
+            return new Lookup(false, page);
+        }
+
+        static Lookup rendered() {
+            return new Lookup(true, null);
+        }
+    }
+}
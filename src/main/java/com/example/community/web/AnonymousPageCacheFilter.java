@@ -0,0 +1,200 @@
+package com.example.community.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비로그인 메인 / 게시판 목록 화면을 AnonymousPageCache로 응답하는 필터
+ *
+ * Spring Security 필터 다음에 실행되어 로그인 여부를 보고, 비로그인 GET 요청만 캐시를 쓴다
+ * - 화면에 들어가는 CSRF 토큰은 방문자마다 다르므로 캐시된 화면의 토큰 자리에 이 요청의 토큰을 넣어 보낸다
+ * - 플래시 메시지가 남아 있는 요청은 캐시를 쓰지 않는다
+ * - 캐시에 올릴 화면은 조건부 헤더를 떼고 전체를 렌더링하고, 캐시에서 보낼 때 ETag로 304 여부를 판단한다
+ */
+@Component
+@RequiredArgsConstructor
+public class AnonymousPageCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern BOARD_LIST = Pattern.compile("^/board/(\\d+)/post(?:/list)?/?$");
+    private static final String FLASH_MAPS = SessionFlashMapManager.class.getName() + ".FLASH_MAPS";
+
+    private final AnonymousPageCache pageCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !pageCache.isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || tagOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!isAnonymous() || hasFlashAttributes(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+
+        AnonymousPageCache.Lookup lookup = pageCache.lookup(key, tagOf(request),
+                () -> render(request, response, chain));
+        if (lookup.rendered()) {
+            return;
+        }
+
+        if (lookup.page() == null) {
+            // 먼저 렌더링한 요청의 응답을 캐시할 수 없었으면 직접 렌더링
+            chain.doFilter(request, response);
+            return;
+        }
+        serve(request, response, lookup.page());
+    }
+
+    // 렌더링해서 이 요청에 응답하고, 캐시할 수 있는 화면이면 돌려준다
+    private AnonymousPageCache.CachedPage render(HttpServletRequest request, HttpServletResponse response,
+                                                 FilterChain chain) throws IOException, ServletException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(new UnconditionalRequest(request), wrapper);
+            return toCachedPage(request, wrapper);
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private AnonymousPageCache.CachedPage toCachedPage(HttpServletRequest request,
+                                                       ContentCachingResponseWrapper wrapper) {
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() != HttpStatus.OK.value() || contentType == null
+                || !MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            return null;
+        }
+
+        String charset = wrapper.getCharacterEncoding();
+        String body = new String(wrapper.getContentAsByteArray(), Charset.forName(charset));
+
+        String token = csrfToken(request);
+        List<String> parts = token == null
+                ? List.of(body)
+                : Arrays.asList(body.split(Pattern.quote(token), -1));
+
+        return new AnonymousPageCache.CachedPage(List.copyOf(parts), contentType, charset,
+                wrapper.getHeader(HttpHeaders.ETAG),
+                wrapper.getHeader(HttpHeaders.LAST_MODIFIED),
+                wrapper.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    private void serve(HttpServletRequest request, HttpServletResponse response,
+                       AnonymousPageCache.CachedPage page) throws IOException {
+        if (page.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, page.cacheControl());
+        }
+        if (page.lastModified() != null) {
+            response.setHeader(HttpHeaders.LAST_MODIFIED, page.lastModified());
+        }
+        if (page.etag() != null && new ServletWebRequest(request, response).checkNotModified(page.etag())) {
+            return;
+        }
+
+        String token = csrfToken(request);
+        String body = String.join(token == null ? "" : token, page.bodyParts());
+        byte[] bytes = body.getBytes(Charset.forName(page.charset()));
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(page.contentType());
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    // 이 요청의 CSRF 토큰 (요청마다 값이 달라지므로 캐시된 화면에 끼워 넣는다)
+    private static String csrfToken(HttpServletRequest request) {
+        CsrfToken token = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
+        return token == null ? null : token.getToken();
+    }
+
+    // 메인(MAIN) 또는 게시판 목록(게시판 ID), 캐시 대상이 아니면 null
+    private static Long tagOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.isEmpty() || path.equals("/")) {
+            return AnonymousPageCache.MAIN;
+        }
+
+        Matcher matcher = BOARD_LIST.matcher(path);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private static boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null
+                || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated();
+    }
+
+    private static boolean hasFlashAttributes(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        Object flashMaps = session == null ? null : session.getAttribute(FLASH_MAPS);
+        return flashMaps instanceof Collection<?> maps && !maps.isEmpty();
+    }
+
+    /**
+     * 조건부 헤더(If-None-Match / If-Modified-Since)를 뗀 요청
+     * 캐시에 올릴 화면은 항상 본문까지 렌더링해야 하므로
+     */
+    private static final class UnconditionalRequest extends HttpServletRequestWrapper {
+
+        UnconditionalRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isConditional(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isConditional(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public long getDateHeader(String name) {
+            return isConditional(name) ? -1 : super.getDateHeader(name);
+        }
+
+        private static boolean isConditional(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)
+                    || HttpHeaders.IF_MODIFIED_SINCE.equalsIgnoreCase(name);
+        }
+    }
+}
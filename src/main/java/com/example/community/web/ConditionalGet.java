@@ -0,0 +1,61 @@
+package com.example.community.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET (ETag / Last-Modified)
+ *
+ * 화면/응답을 만들기 전에 가벼운 검증값(수정 시각, 카운터, 로그인 사용자 등)으로 약한 ETag를 만들고
+ * 브라우저가 보낸 If-None-Match / If-Modified-Since와 같으면 304로 끝낸다 (렌더링과 나머지 조회 생략)
+ * - 로그인 사용자마다 화면이 다르므로 Cache-Control: private, no-cache (매번 재검증)
+ * - 플래시 메시지가 있는 요청은 화면이 달라지므로 검사하지 않는다
+ * - 기동 시각을 ETag에 섞어 배포(템플릿 변경) 후에는 이전 ETag가 모두 무효가 된다
+ */
+public final class ConditionalGet {
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+    private static final long STARTED_AT = System.currentTimeMillis();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * 검증값으로 약한 ETag 생성 (W/"md5")
+     */
+    public static String weakEtag(Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|", STARTED_AT + "|", ""));
+        return "W/\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * ETag / Last-Modified를 응답에 싣고, 바뀐 게 없으면 304로 표시
+     * @return true면 응답 본문 없이 끝내야 함 (컨트롤러는 null 반환)
+     */
+    public static boolean checkNotModified(ServletWebRequest request, String etag, LocalDateTime lastModified) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+
+        Map<String, ?> flashMap = RequestContextUtils.getInputFlashMap(request.getRequest());
+        if (flashMap != null && !flashMap.isEmpty()) {
+            return false;
+        }
+
+        long lastModifiedMillis = lastModified == null
+                ? -1
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return request.checkNotModified(etag, lastModifiedMillis);
+    }
+}
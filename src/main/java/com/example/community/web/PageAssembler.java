@@ -0,0 +1,189 @@
+package com.example.community.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 화면 조립기
+ *
+ * 한 화면에 필요한 서로 독립적인 조회(게시글, 좋아요 여부, 이전/다음 글, 인기글 등)를
+ * 가상 스레드에서 동시에 실행하고 조각마다 제한 시간을 둔다
+ * - main: 화면 본문 조각. 다른 조각을 먼저 시작해 두고 get() 때 요청 스레드에서 실행 (커넥션을 하나 덜 쓴다)
+ * - required: 화면에 꼭 필요한 조각. 실패하면 원래 예외를 그대로 던진다
+ * - optional: 사이드바 등 부가 조각. 제한 시간 초과/실패 시 기본값으로 대체
+ *
+ * 조각은 화면마다 open()으로 연 Scope에서 시작한다
+ * - main/required 조각이 실패하면 같은 화면의 나머지 조각은 취소 (어차피 오류 화면이므로)
+ * - 제한 시간을 넘긴 조각은 인터럽트해서 중단한다 (DB 커넥션을 계속 잡고 있지 않도록)
+ * - 별도 스레드에서 동시에 실행되는 조각 수는 커넥션 풀의 절반까지 (나머지는 요청 스레드 몫)
+ *   자리를 기다리는 시간도 제한 시간에 포함되므로, 몰릴 때는 부가 조각부터 기본값으로 빠진다
+ * - main 외의 조각은 별도 스레드에서 실행되므로 호출 쪽 트랜잭션의 커밋 전 데이터는 보이지 않는다
+ */
+@Component
+@Slf4j
+public class PageAssembler implements DisposableBean {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Duration requiredTimeout;
+    private final Duration optionalTimeout;
+    // 별도 스레드에서 동시에 DB를 쓰는 조각 수 제한
+    private final Semaphore permits;
+
+    public PageAssembler(@Value("${community.page.required-timeout-ms:5000}") long requiredTimeoutMs,
+                         @Value("${community.page.optional-timeout-ms:300}") long optionalTimeoutMs,
+                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.requiredTimeout = Duration.ofMillis(requiredTimeoutMs);
+        this.optionalTimeout = Duration.ofMillis(optionalTimeoutMs);
+        this.permits = new Semaphore(Math.max(1, poolSize / 2), true);
+    }
+
+    /**
+     * 화면 하나의 조각 묶음 시작
+     */
+    public Scope open() {
+        return new Scope();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> Future<T> submit(Supplier<T> task) {
+        return executor.submit(() -> {
+            permits.acquire();
+            try {
+                return task.get();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * 화면 하나의 조각 묶음
+     */
+    public class Scope {
+
+        private final List<Future<?>> futures = new CopyOnWriteArrayList<>();
+
+        private Scope() {
+        }
+
+        /**
+         * 본문 조각 (get() 때 요청 스레드에서 한 번만 실행)
+         */
+        public <T> PageFragment<T> main(Supplier<T> task) {
+            return new PageFragment<>() {
+                private boolean done;
+                private T value;
+
+                @Override
+                public T get() {
+                    if (!done) {
+                        try {
+                            value = task.get();
+                        } catch (RuntimeException | Error e) {
+                            cancelAll();
+                            throw e;
+                        }
+                        done = true;
+                    }
+                    return value;
+                }
+            };
+        }
+
+        /**
+         * 필수 조각 조회 시작
+         */
+        public <T> PageFragment<T> required(String name, Supplier<T> task) {
+            Future<T> future = start(task);
+            long deadline = System.nanoTime() + requiredTimeout.toNanos();
+
+            return () -> {
+                try {
+                    return future.get(remaining(deadline), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    cancelAll();
+                    throw new IllegalStateException("Page fragment timed out: " + name, e);
+                } catch (ExecutionException e) {
+                    cancelAll();
+                    throw unwrap(e);
+                } catch (CancellationException e) {
+                    throw new IllegalStateException("Page fragment cancelled: " + name, e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelAll();
+                    throw new IllegalStateException("Page fragment interrupted: " + name, e);
+                }
+            };
+        }
+
+        /**
+         * 부가 조각 조회 시작 (제한 시간 초과/실패 시 fallback)
+         */
+        public <T> PageFragment<T> optional(String name, Supplier<T> task, T fallback) {
+            Future<T> future = start(task);
+            long deadline = System.nanoTime() + optionalTimeout.toNanos();
+
+            return () -> {
+                try {
+                    return future.get(remaining(deadline), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    log.warn("PAGE FRAGMENT TIMEOUT: name={}, timeout={}ms", name, optionalTimeout.toMillis());
+                    return fallback;
+                } catch (ExecutionException | CancellationException e) {
+                    log.warn("PAGE FRAGMENT FAILED: name={}, reason={}", name, e.getMessage());
+                    return fallback;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return fallback;
+                }
+            };
+        }
+
+        private <T> Future<T> start(Supplier<T> task) {
+            Future<T> future = submit(task);
+            futures.add(future);
+            return future;
+        }
+
+        // 화면이 실패로 끝나므로 아직 실행 중인 조각은 중단
+        private void cancelAll() {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+}
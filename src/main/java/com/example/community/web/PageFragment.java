@@ -0,0 +1,18 @@
+package com.example.community.web;
+
+/**
+ * 화면 조각 조회 결과
+ * PageAssembler에서 동시에 조회를 시작하고, get()에서 결과를 기다린다
+ */
+@FunctionalInterface
+public interface PageFragment<T> {
+
+    T get();
+
+    /**
+     * 이미 가지고 있는 값 (조회 없음)
+     */
+    static <T> PageFragment<T> of(T value) {
+        return () -> value;
+    }
+}
@@ -0,0 +1,31 @@
+-- 기동 시마다 실행 (spring.sql.init.mode: always)
+-- 모든 구문은 여러 번 실행해도 결과가 같아야 한다
+
+-- board_stats: 집계 행이 없는 게시판의 게시글 수/마지막 작성 시각 채우기
+INSERT INTO board_stats (board_id, post_count, last_post_at)
+SELECT b.id,
+       (SELECT COUNT(*) FROM posts p WHERE p.board_id = b.id),
+       (SELECT MAX(p.created_at) FROM posts p WHERE p.board_id = b.id)
+FROM boards b
+WHERE NOT EXISTS (SELECT 1 FROM board_stats s WHERE s.board_id = b.id);
+
+-- board_stats.changed_at: 변경 시각이 없는 게시판은 마지막 작성 시각(없으면 현재 시각)으로 채우기
+UPDATE board_stats
+SET changed_at = COALESCE(last_post_at, CURRENT_TIMESTAMP)
+WHERE changed_at IS NULL;
+
+-- posts.excerpt: 목록용 본문 앞부분이 비어있는 게시글 채우기 (PostEntity.excerptOf와 같은 규칙)
+UPDATE posts
+SET excerpt = LEFT(TRIM(REGEXP_REPLACE(SUBSTRING(content, 1, 1000), '\s+', ' ')), 100)
+WHERE excerpt IS NULL;
+
+-- user_message_counters: 집계 행이 없는 회원의 쪽지함 개수 채우기 (UserMessageCounterRepository와 같은 규칙)
+INSERT INTO user_message_counters (user_id, unread, inbox, sent, trash)
+SELECT u.id,
+       (SELECT COUNT(*) FROM messages m WHERE m.receiver_id = u.id AND m.is_read = 0 AND m.receiver_delete_state = 0),
+       (SELECT COUNT(*) FROM messages m WHERE m.receiver_id = u.id AND m.receiver_delete_state = 0),
+       (SELECT COUNT(*) FROM messages m WHERE m.sender_id = u.id AND m.sender_delete_state = 0),
+       (SELECT COUNT(*) FROM messages m WHERE (m.receiver_id = u.id AND m.receiver_delete_state = 1)
+                                         OR (m.sender_id = u.id AND m.sender_delete_state = 1))
+FROM users u
+WHERE NOT EXISTS (SELECT 1 FROM user_message_counters c WHERE c.user_id = u.id);
@@ -1,9 +1,12 @@
 /**
  * 쪽지함 공통 기능
  * - 모든 쪽지 페이지(목록, 읽기, 쓰기)에서 배지 카운트 관리
+ * - 배지는 SSE(/messages/api/unread-stream)로 받고, 지원하지 않는 브라우저는 API를 한 번 호출
  * - CSRF 토큰 처리
  */
 const MessageCommon = {
+    eventSource: null,
+
     // CSRF 토큰을 포함한 헤더 객체 반환
     getCsrfHeaders() {
         const csrfToken = document.querySelector('meta[name="_csrf"]')?.content;
@@ -21,29 +24,66 @@ const MessageCommon = {
         return headers;
     },
 
-    // 배지 업데이트 API 호출
-    updateUnreadBadge() {
+    // 배지 표시
+    renderBadge(count) {
         const badge = document.querySelector('#unreadBadge');
         if (!badge) return;
 
+        if (count > 0) {
+            badge.textContent = count > 99 ? '99+' : count;
+            badge.style.display = 'inline-block';
+        } else {
+            badge.style.display = 'none';
+        }
+    },
+
+    // 배지 업데이트 API 호출 (SSE를 쓸 수 없을 때)
+    updateUnreadBadge() {
+        if (!document.querySelector('#unreadBadge')) return;
+
         fetch('/messages/api/unread-count')
             .then(res => res.ok ? res.json() : Promise.reject())
-            .then(count => {
-                if (count > 0) {
-                    badge.textContent = count > 99 ? '99+' : count;
-                    badge.style.display = 'inline-block';
-                } else {
-                    badge.style.display = 'none';
-                }
-            })
+            .then(count => this.renderBadge(count))
             .catch(err => console.error('공통 배지 업데이트 실패:', err));
     },
 
+    // 새 쪽지 알림 (브라우저 알림 권한이 있을 때만)
+    notifyMessage(notice) {
+        document.dispatchEvent(new CustomEvent('message:received', { detail: notice }));
+
+        if ('Notification' in window && Notification.permission === 'granted') {
+            new Notification(`${notice.senderNickname}님의 새 쪽지`, { body: notice.title });
+        }
+    },
+
+    // 안 읽은 쪽지 수 구독 (연결이 끊기면 브라우저가 자동으로 다시 연결)
+    subscribeUnreadCount() {
+        if (!document.querySelector('#unreadBadge')) return;
+
+        if (!('EventSource' in window)) {
+            this.updateUnreadBadge();
+            return;
+        }
+
+        this.eventSource = new EventSource('/messages/api/unread-stream');
+        this.eventSource.addEventListener('unread-count', e => this.renderBadge(JSON.parse(e.data)));
+        this.eventSource.addEventListener('message', e => this.notifyMessage(JSON.parse(e.data)));
+        this.eventSource.onerror = () => {
+            // 재연결을 포기한 경우(로그아웃 등)에만 API로 한 번 갱신
+            if (this.eventSource.readyState === EventSource.CLOSED) {
+                this.updateUnreadBadge();
+            }
+        };
+
+        // 화면을 떠날 때 연결 정리
+        window.addEventListener('pagehide', () => this.eventSource?.close());
+    },
+
     // 초기화: 페이지 로드 시 실행
     init() {
-        this.updateUnreadBadge();
+        this.subscribeUnreadCount();
     }
 };
 
 // DOM 로드 시 공통 초기화 실행
-document.addEventListener('DOMContentLoaded', () => MessageCommon.init());
\ No newline at end of file
+document.addEventListener('DOMContentLoaded', () => MessageCommon.init());
@@ -53,8 +53,8 @@ document.addEventListener('DOMContentLoaded', () => {
                 }
             }
 
-            // 상세조회 성공 시 공통 배지 업데이트 호출 (읽음 처리 반영)
-            if (window.MessageCommon) {
+            // 상세조회 성공 시 공통 배지 업데이트 호출 (읽음 처리 반영, SSE 연결 중이면 서버가 보내 줌)
+            if (window.MessageCommon && !MessageCommon.eventSource) {
                 MessageCommon.updateUnreadBadge();
             }
         })
@@ -88,71 +88,104 @@ document.addEventListener('DOMContentLoaded', function() {
         return div.innerHTML;
     }
 
-    // 댓글 목록 렌더링
-    function renderComments(comments) {
-        // 하단 댓글수 업데이트
-        commentCount.textContent = comments.length;
+    // 댓글 페이지 크기 / 다음 페이지 커서 (마지막 댓글 ID)
+    const COMMENT_PAGE_SIZE = 50;
+    let nextAfter = null;
+    let loadingComments = false;
+    // 로딩 중에 요청된 처음부터 다시 로드 (댓글 등록/수정/삭제 후), 로딩이 끝나면 실행
+    let refreshPending = false;
+    let commentEndObserver = null;
+    let commentEnd = null;
+
+    // 댓글 수 표시 (상단/하단)
+    function renderCommentCount(count) {
+        commentCount.textContent = count;
 
-        // 상단 댓글수 업데이트
         if (topCommentCount) {
-            topCommentCount.textContent = comments.length;
+            topCommentCount.textContent = count;
         }
+    }
 
-        if (!comments || comments.length === 0) {
-            commentList.innerHTML = '<div class="empty-comment">아직 댓글이 없습니다.</div>';
-            return;
-        }
+    // 댓글 1개 HTML
+    function commentHtml(comment) {
+        const isOwner = (CURRENT_USER_ID && comment.userId === CURRENT_USER_ID);
 
         let html = '';
-        comments.forEach(function(comment) {
-            const isOwner = (CURRENT_USER_ID && comment.userId === CURRENT_USER_ID);
-
-            html += '<div class="comment-item" data-id="' + comment.id + '">';
-            html += '  <div class="comment-body">';
-            html += '    <div class="comment-top">';
-            html += '      <div class="comment-writer">' + escapeHtml(comment.writer || 'unknown') + '</div>';
-            html += '      <div class="comment-time">' + formatDate(comment.createdAt) + '</div>';
-            html += '    </div>';
-            html += '    <div class="comment-content" data-content>' + escapeHtml(comment.content || '') + '</div>';
-
-            // 수정 영역 (숨김)
-            html += '    <div class="comment-editbox" style="display:none;">';
-            html += '      <textarea maxlength="200"></textarea>';
-            html += '      <div class="row">';
-            html += '        <button type="button" onclick="cancelEdit(this)">취소</button>';
-            html += '        <button type="button" onclick="saveEdit(this, ' + comment.id + ')">저장</button>';
-            html += '      </div>';
-            html += '    </div>';
+        html += '<div class="comment-item" data-id="' + comment.id + '">';
+        html += '  <div class="comment-body">';
+        html += '    <div class="comment-top">';
+        html += '      <div class="comment-writer">' + escapeHtml(comment.writer || 'unknown') + '</div>';
+        html += '      <div class="comment-time">' + formatDate(comment.createdAt) + '</div>';
+        html += '    </div>';
+        html += '    <div class="comment-content" data-content>' + escapeHtml(comment.content || '') + '</div>';
+
+        // 수정 영역 (숨김)
+        html += '    <div class="comment-editbox" style="display:none;">';
+        html += '      <textarea maxlength="200"></textarea>';
+        html += '      <div class="row">';
+        html += '        <button type="button" onclick="cancelEdit(this)">취소</button>';
+        html += '        <button type="button" onclick="saveEdit(this, ' + comment.id + ')">저장</button>';
+        html += '      </div>';
+        html += '    </div>';
+
+        // 버튼 영역 (조건부 표시)
+        if (isOwner || IS_ADMIN) {
+            html += '    <div class="comment-footer">';
+            html += '      <div class="comment-actions">';
+
+            // 작성자만 수정 가능
+            if (isOwner) {
+                html += '        <button type="button" onclick="editComment(this)">수정</button>';
+            }
 
-            // 버튼 영역 (조건부 표시)
+            // 작성자 또는 관리자는 삭제 가능
             if (isOwner || IS_ADMIN) {
-                html += '    <div class="comment-footer">';
-                html += '      <div class="comment-actions">';
+                html += '        <button type="button" class="del" onclick="deleteComment(' + comment.id + ')">삭제</button>';
+            }
 
-                // 작성자만 수정 가능
-                if (isOwner) {
-                    html += '        <button type="button" onclick="editComment(this)">수정</button>';
-                }
+            html += '      </div>';
+            html += '    </div>';
+        }
 
-                // 작성자 또는 관리자는 삭제 가능
-                if (isOwner || IS_ADMIN) {
-                    html += '        <button type="button" class="del" onclick="deleteComment(' + comment.id + ')">삭제</button>';
-                }
+        html += '  </div>';
+        html += '</div>';
+        return html;
+    }
 
-                html += '      </div>';
-                html += '    </div>';
-            }
+    // 댓글 페이지 렌더링 (append: 이어서 붙이기)
+    function renderComments(page, append) {
+        const comments = page.content || [];
+        renderCommentCount(page.totalCount);
 
-            html += '  </div>';
-            html += '</div>';
-        });
+        if (!append && comments.length === 0) {
+            commentList.innerHTML = '<div class="empty-comment">아직 댓글이 없습니다.</div>';
+            return;
+        }
+
+        const html = comments.map(commentHtml).join('');
 
-        commentList.innerHTML = html;
+        if (append) {
+            commentList.insertAdjacentHTML('beforeend', html);
+        } else {
+            commentList.innerHTML = html;
+        }
     }
 
-    // 댓글 목록 로드
-    function loadComments() {
-        fetch(COMMENT_API, {
+    // 댓글 목록 로드 (append가 아니면 처음부터 다시)
+    function loadComments(append) {
+        if (loadingComments) {
+            // 이어서 붙이기는 건너뛰어도 되지만, 다시 로드는 놓치면 새 댓글/댓글 수가 안 보이므로 미뤄둔다
+            if (!append) refreshPending = true;
+            return;
+        }
+        loadingComments = true;
+
+        let url = COMMENT_API + '?limit=' + COMMENT_PAGE_SIZE;
+        if (append && nextAfter !== null) {
+            url += '&after=' + nextAfter;
+        }
+
+        fetch(url, {
             method: 'GET',
             credentials: 'same-origin'
         })
@@ -162,15 +195,49 @@ document.addEventListener('DOMContentLoaded', function() {
                 }
                 return response.json();
             })
-            .then(function(data) {
-                renderComments(data);
+            .then(function(page) {
+                renderComments(page, append);
+                nextAfter = page.nextAfter;
             })
             .catch(function(error) {
                 console.error('Error loading comments:', error);
-                commentList.innerHTML = '<div class="empty-comment">댓글을 불러오는데 실패했습니다.</div>';
+                if (!append) {
+                    commentList.innerHTML = '<div class="empty-comment">댓글을 불러오는데 실패했습니다.</div>';
+                }
+            })
+            .finally(function() {
+                loadingComments = false;
+
+                if (refreshPending) {
+                    refreshPending = false;
+                    loadComments(false);
+                    return;
+                }
+
+                // 아직 목록 끝이 보이면 다시 감지되도록 관찰 재등록
+                if (commentEndObserver) {
+                    commentEndObserver.unobserve(commentEnd);
+                    commentEndObserver.observe(commentEnd);
+                }
             });
     }
 
+    // 스크롤이 댓글 목록 끝에 닿으면 다음 페이지 로드
+    function observeCommentEnd() {
+        commentEnd = document.createElement('div');
+        commentEnd.id = 'commentListEnd';
+        commentList.after(commentEnd);
+
+        if (!('IntersectionObserver' in window)) return;
+
+        commentEndObserver = new IntersectionObserver(function(entries) {
+            if (entries[0].isIntersecting && nextAfter !== null) {
+                loadComments(true);
+            }
+        }, { rootMargin: '200px' });
+        commentEndObserver.observe(commentEnd);
+    }
+
     // 댓글 등록 (성공 후 loadComments() 호출)
     function createComment() {
         const content = newComment.value.trim();
@@ -210,7 +277,7 @@ document.addEventListener('DOMContentLoaded', function() {
             .then(function(data) {
                 newComment.value = '';
                 // 댓글 목록 다시 로드 → 댓글 수 자동 업데이트
-                loadComments();
+                loadComments(false);
             })
             .catch(function(error) {
                 console.error('Error creating comment:', error);
@@ -270,7 +337,7 @@ document.addEventListener('DOMContentLoaded', function() {
             })
             .then(function(data) {
                 // 댓글 목록 다시 로드 → 댓글 수 자동 업데이트
-                loadComments();
+                loadComments(false);
             })
             .catch(function(error) {
                 console.error('Error updating comment:', error);
@@ -296,7 +363,7 @@ document.addEventListener('DOMContentLoaded', function() {
             .then(function(data) {
                 if (data.success) {
                     // 댓글 목록 다시 로드 → 댓글 수 자동 업데이트
-                    loadComments();
+                    loadComments(false);
                 } else {
                     alert(data.message || '댓글 삭제에 실패했습니다.');
                 }
@@ -313,7 +380,8 @@ document.addEventListener('DOMContentLoaded', function() {
     }
 
     // 초기 댓글 로드
-    loadComments();
+    loadComments(false);
+    observeCommentEnd();
 
     // 좋아요 기능
     const likeBtn = document.getElementById('likeBtn');
@@ -17,6 +17,7 @@ import tools.jackson.databind.ObjectMapper;
 import org.springframework.test.web.servlet.MvcResult;
 
 
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -294,5 +295,15 @@ class AdminControllerTest {
                 .andExpect(status().isOk())
                 .andDo(print());
     }
-}
 
+    @Test
+    @DisplayName("대시보드 - 게시글 상세 캐시 통계 표시")
+    void testDashboard_postDetailCacheStats() throws Exception {
+        mockMvc.perform(get("/admin/dashboard")
+                        .with(user("testadmin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("postDetailCacheStats"))
+                .andExpect(content().string(containsString("상세 캐시 적중률")))
+                .andDo(print());
+    }
+}
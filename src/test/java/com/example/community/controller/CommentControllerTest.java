@@ -2,8 +2,10 @@ package com.example.community.controller;
 
 import com.example.community.domain.comment.CommentDto;
 import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostStatsEntity;
 import com.example.community.domain.user.UserEntity;
 import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.PostStatsRepository;
 import com.example.community.persistence.UserRepository;
 import com.example.community.security.CustomUserDetails;
 import jakarta.transaction.Transactional;
@@ -49,6 +51,9 @@ class CommentControllerTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
     private Long postId;
     private final String COMMENTS_URI = "/api/posts/%d/comments";
 
@@ -87,12 +92,11 @@ class CommentControllerTest {
                         .content("post_content")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
                         .build()
         );
         postId = post.getId();
+        // 목록 쿼리는 post_stats를 조인하므로 카운터 행도 함께 저장
+        postStatsRepository.save(PostStatsEntity.builder().postId(post.getId()).build());
     }
 
     @Test
@@ -2,8 +2,10 @@ package com.example.community.controller;
 
 import com.example.community.domain.board.BoardEntity;
 import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostStatsEntity;
 import com.example.community.persistence.BoardRepository;
 import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.PostStatsRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,11 +41,15 @@ class MainControllerTest {
     @Autowired
     PostRepository postRepository;
 
+    @Autowired
+    PostStatsRepository postStatsRepository;
+
     // 테스트 실행 전 데이터 초기화
     @BeforeEach
     void setUp() {
         log.info("데이터 초기화");
 
+        postStatsRepository.deleteAll();
         postRepository.deleteAll();
         boardRepository.deleteAll();
 
@@ -62,63 +68,64 @@ class MainControllerTest {
         );
 
         // 공지 게시글 생성
-        postRepository.saveAll(List.of(
+        List<PostEntity> notices = postRepository.saveAll(List.of(
                 PostEntity.builder()
                         .userId(1L)
                         .boardId(noticeBoard.getId())
                         .title("공지글1")
                         .content("공지 내용1")
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
                         .build(),
                 PostEntity.builder()
                         .userId(1L)
                         .boardId(noticeBoard.getId())
                         .title("공지글2")
                         .content("공지 내용2")
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
                         .build()
         ));
 
         // 일반 게시글 생성 (검색 테스트용)
-        postRepository.saveAll(List.of(
+        List<PostEntity> posts = postRepository.saveAll(List.of(
                 PostEntity.builder()
                         .userId(1L)
                         .boardId(freeBoard.getId())
                         .title("테스트 제목 검색키워드")
                         .content("일반 내용")
-                        .viewCount(100)
-                        .commentsCount(0)
-                        .likesCount(0)
                         .build(),
                 PostEntity.builder()
                         .userId(1L)
                         .boardId(freeBoard.getId())
                         .title("일반 제목")
                         .content("검색키워드 내용입니다")
-                        .viewCount(50)
-                        .commentsCount(0)
-                        .likesCount(0)
                         .build(),
                 PostEntity.builder()
                         .userId(1L)
                         .boardId(freeBoard.getId())
                         .title("인기글")
                         .content("조회수 높은 글")
-                        .viewCount(1000)
-                        .commentsCount(0)
-                        .likesCount(0)
                         .build()
         ));
 
+        // 게시글 카운터 (일반 게시글 조회수 100 / 50 / 1000)
+        postStatsRepository.saveAll(List.of(
+                stats(notices.get(0), 0),
+                stats(notices.get(1), 0),
+                stats(posts.get(0), 100),
+                stats(posts.get(1), 50),
+                stats(posts.get(2), 1000)
+        ));
+
         log.info("데이터 초기화 완료");
     }
 
 
 
+    private static PostStatsEntity stats(PostEntity post, int views) {
+        return PostStatsEntity.builder()
+                .postId(post.getId())
+                .views(views)
+                .build();
+    }
+
     /**
      * 기본 메인 페이지 로드 테스트
      */
@@ -24,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -191,4 +192,15 @@ class MessageControllerTest {
                         .param("userType", "sent"))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("api/unread-stream - 연결 직후 안 읽은 쪽지 수 전송 테스트")
+    void testUnreadStream() throws Exception {
+        // 로그인 사용자(sender)는 받은 쪽지가 없음
+        mockMvc.perform(get(API_URI + "/unread-stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(content().string(containsString("event:unread-count")))
+                .andExpect(content().string(containsString("data:0")));
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,6 +27,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -243,4 +245,46 @@ class PostControllerTest {
                 .andExpect(status().is3xxRedirection())
                 .andDo(print());
     }
+
+//    게시글 상세 조건부 GET 테스트 (ETag가 같으면 304, 수정 후에는 200)
+    @Test
+    public void testRead_conditionalGet() throws Exception {
+        String createdId = createPostAndGetId("[TEST] conditional get", "[TEST] content");
+
+        MvcResult first = mockMvc.perform(
+                        MockMvcRequestBuilders.get("/board/{boardId}/post/read", BOARD_ID)
+                                .with(testUser())
+                                .param("id", createdId)
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/board/{boardId}/post/read", BOARD_ID)
+                                .with(testUser())
+                                .param("id", createdId)
+                                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                )
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/board/{boardId}/post/update", BOARD_ID)
+                                .with(testUser())
+                                .with(csrf())
+                                .param("id", createdId)
+                                .param("title", "[TEST] conditional get updated")
+                                .param("content", "[TEST] updated content")
+                )
+                .andExpect(status().is3xxRedirection());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/board/{boardId}/post/read", BOARD_ID)
+                                .with(testUser())
+                                .param("id", createdId)
+                                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                )
+                .andExpect(status().isOk());
+    }
 }
@@ -2,6 +2,7 @@ package com.example.community.persistence;
 
 import com.example.community.domain.comment.CommentEntity;
 import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostStatsEntity;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +25,9 @@ class CommentRepositoryTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
     private final Long BOARD_ID = 1L;
     private final Long USER_ID = 1L;
 
@@ -42,13 +46,12 @@ class CommentRepositoryTest {
                         .content("게시글 내용")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
                         .build()
         );
 
         this.postId = post.getId();
+        // 목록 쿼리는 post_stats를 조인하므로 카운터 행도 함께 저장
+        postStatsRepository.save(PostStatsEntity.builder().postId(post.getId()).build());
     }
 
     @Test
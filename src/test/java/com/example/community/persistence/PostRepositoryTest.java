@@ -1,6 +1,8 @@
 package com.example.community.persistence;
 
 import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostStatsEntity;
+import com.example.community.domain.post.PostSummary;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +12,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,6 +24,9 @@ class PostRepositoryTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
     private final Long BOARD_ID = 1L;
     private final Long USER_ID = 1L;
 
@@ -75,14 +82,11 @@ class PostRepositoryTest {
                 .content(title)
                 .postType((short) 0)
                 .fixed((short) 0)
-                .viewCount(0)
-                .commentsCount(0)
-                .likesCount(0)
                 .build();
 
         log.info("postEntity(before save) = {}", postEntity);
 
-        PostEntity savedEntity = postRepository.save(postEntity);
+        PostEntity savedEntity = saveWithStats(postEntity, 0);
 
         assertNotNull(savedEntity);
         assertNotNull(savedEntity.getId());
@@ -93,7 +97,7 @@ class PostRepositoryTest {
 
     @Test
     public void testRead() {
-        PostEntity saved = postRepository.save(
+        PostEntity saved = saveWithStats(
                 PostEntity.builder()
                         .boardId(BOARD_ID)
                         .userId(USER_ID)
@@ -101,10 +105,7 @@ class PostRepositoryTest {
                         .content("content")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
-                        .build()
+                        .build(), 0
         );
 
         Long id = saved.getId();
@@ -120,7 +121,7 @@ class PostRepositoryTest {
 
     @Test
     public void testUpdate() {
-        PostEntity saved = postRepository.save(
+        PostEntity saved = saveWithStats(
                 PostEntity.builder()
                         .boardId(BOARD_ID)
                         .userId(USER_ID)
@@ -128,10 +129,7 @@ class PostRepositoryTest {
                         .content("before update")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
-                        .build()
+                        .build(), 0
         );
 
         Long id = saved.getId();
@@ -163,9 +161,6 @@ class PostRepositoryTest {
                         .content("delete content")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
                         .build()
         );
 
@@ -185,12 +180,22 @@ class PostRepositoryTest {
         });
     }
 
+    // 목록/검색 쿼리는 post_stats를 조인하므로 카운터 행도 함께 저장
+    private PostEntity saveWithStats(PostEntity postEntity, int views) {
+        PostEntity saved = postRepository.save(postEntity);
+        postStatsRepository.save(PostStatsEntity.builder()
+                .postId(saved.getId())
+                .views(views)
+                .build());
+        return saved;
+    }
+
     // 검색 기능 테스트
     @Test
     public void testSearchByTitle() {
         // 테스트용 게시글 생성
         String keyword = "검색테스트";
-        PostEntity testPost = postRepository.save(
+        PostEntity testPost = saveWithStats(
                 PostEntity.builder()
                         .boardId(BOARD_ID)
                         .userId(USER_ID)
@@ -198,14 +203,11 @@ class PostRepositoryTest {
                         .content("내용")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
-                        .build()
+                        .build(), 0
         );
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<PostEntity> result = postRepository.searchByTitle(keyword, pageable);
+        Page<PostSummary> result = postRepository.searchByTitle(keyword, pageable);
 
         log.info("검색 결과 개수 = {}", result.getTotalElements());
 
@@ -218,7 +220,7 @@ class PostRepositoryTest {
     public void testSearchByContent() {
         // 테스트용 게시글 생성
         String keyword = "내용검색";
-        PostEntity testPost = postRepository.save(
+        PostEntity testPost = saveWithStats(
                 PostEntity.builder()
                         .boardId(BOARD_ID)
                         .userId(USER_ID)
@@ -226,27 +228,24 @@ class PostRepositoryTest {
                         .content(keyword + "테스트입니다")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
-                        .build()
+                        .build(), 0
         );
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<PostEntity> result = postRepository.searchByContent(keyword, pageable);
+        Page<PostSummary> result = postRepository.searchByContent(keyword, pageable);
 
         log.info("검색 결과 개수 = {}", result.getTotalElements());
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).isNotEmpty();
-        assertThat(result.getContent()).anyMatch(post -> post.getContent().contains(keyword));
+        assertThat(result.getContent()).anyMatch(post -> post.getExcerpt().contains(keyword));
     }
 
     @Test
     public void testSearchByTitleOrContent() {
         // 테스트용 게시글 생성 (제목에 키워드)
         String keyword = "통합검색";
-        PostEntity testPost1 = postRepository.save(
+        PostEntity testPost1 = saveWithStats(
                 PostEntity.builder()
                         .boardId(BOARD_ID)
                         .userId(USER_ID)
@@ -254,14 +253,11 @@ class PostRepositoryTest {
                         .content("내용")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
-                        .build()
+                        .build(), 0
         );
 
         // 테스트용 게시글 생성 (내용에 키워드)
-        PostEntity testPost2 = postRepository.save(
+        PostEntity testPost2 = saveWithStats(
                 PostEntity.builder()
                         .boardId(BOARD_ID)
                         .userId(USER_ID)
@@ -269,14 +265,11 @@ class PostRepositoryTest {
                         .content(keyword + " 내용")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
-                        .build()
+                        .build(), 0
         );
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<PostEntity> result = postRepository.searchByTitleOrContent(keyword, pageable);
+        Page<PostSummary> result = postRepository.searchByTitleOrContent(keyword, pageable);
 
         log.info("검색 결과 개수 = {}", result.getTotalElements());
 
@@ -285,34 +278,30 @@ class PostRepositoryTest {
     }
 
     @Test
-    public void testFindTopByViewCount() {
+    public void testFindPopular() {
         // 조회수가 높은 테스트 게시글 생성
-        PostEntity popularPost = postRepository.save(
+        PostEntity popularPost = saveWithStats(
                 PostEntity.builder()
                         .boardId(BOARD_ID)
                         .userId(USER_ID)
-                        .title("[TEST] PostRepositoryTest#testFindTopByViewCount - 인기글")
+                        .title("[TEST] PostRepositoryTest#testFindPopular - 인기글")
                         .content("인기 게시글")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(1000)
-                        .commentsCount(0)
-                        .likesCount(0)
-                        .build()
+                        .build(), 1000
         );
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<PostEntity> result = postRepository.findTopByViewCount(pageable);
+        List<PostSummary> result = postRepository.findPopular(pageable);
 
-        log.info("인기 게시글 TOP 10 = {}", result.getTotalElements());
+        log.info("인기 게시글 TOP 10 = {}", result.size());
 
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).isNotEmpty();
+        assertThat(result).isNotEmpty();
 
-        // 조회수 내림차순 정렬 확인
-        for (int i = 0; i < result.getContent().size() - 1; i++) {
-            assertThat(result.getContent().get(i).getViewCount())
-                    .isGreaterThanOrEqualTo(result.getContent().get(i + 1).getViewCount());
+        // 조회수 내림차순 정렬 확인 (post_stats.views)
+        for (int i = 0; i < result.size() - 1; i++) {
+            assertThat(result.get(i).getViewCount())
+                    .isGreaterThanOrEqualTo(result.get(i + 1).getViewCount());
         }
     }
 }
\ No newline at end of file
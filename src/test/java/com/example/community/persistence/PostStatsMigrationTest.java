@@ -0,0 +1,100 @@
+package com.example.community.persistence;
+
+import com.example.community.domain.post.PostEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * posts 카운터 컬럼 -> post_stats 이전 테스트
+ * DDL을 실행하므로 @Transactional 없이 실행하고 끝나면 직접 정리한다
+ */
+@SpringBootTest
+@Slf4j
+class PostStatsMigrationTest {
+
+    @Autowired
+    private PostStatsMigration postStatsMigration;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> postIds = new ArrayList<>();
+    // 테스트가 직접 추가한 옛 컬럼만 정리 (개발 DB에 원래 남아 있던 컬럼은 건드리지 않음)
+    private boolean addedColumn;
+
+    @AfterEach
+    void tearDown() {
+        if (addedColumn) {
+            jdbcTemplate.execute("ALTER TABLE posts DROP COLUMN IF EXISTS view_count");
+        }
+        postIds.forEach(postId -> {
+            postStatsRepository.deleteByPostId(postId);
+            postRepository.deleteById(postId);
+        });
+    }
+
+    @Test
+    public void testMigrate_copiesLegacyColumnAndKeepsIt() {
+        assumeFalse(hasViewCountColumn(), "이 DB에는 옛 view_count 컬럼이 남아 있음");
+
+        // 옛 컬럼이 남아 있는 DB (카운터 행이 없는 게시글, 기본값 없는 NOT NULL 컬럼)
+        jdbcTemplate.execute("ALTER TABLE posts ADD COLUMN view_count INT DEFAULT 0");
+        addedColumn = true;
+        Long postId = savePost();
+        jdbcTemplate.update("UPDATE posts SET view_count = 7 WHERE id = ?", postId);
+        jdbcTemplate.execute("ALTER TABLE posts ALTER COLUMN view_count SET NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE posts ALTER COLUMN view_count DROP DEFAULT");
+
+        postStatsMigration.migrate();
+
+        // 값은 post_stats로 복사되고 옛 컬럼은 그대로 남는다
+        assertThat(postStatsRepository.findViewsByPostId(postId)).contains(7);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT view_count FROM posts WHERE id = ?", Integer.class, postId)).isEqualTo(7);
+
+        // 옛 컬럼에 기본값이 붙어 새 게시글도 저장된다
+        Long newPostId = savePost();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT view_count FROM posts WHERE id = ?", Integer.class, newPostId)).isZero();
+
+        // 다시 실행해도 이미 있는 카운터 행은 덮어쓰지 않는다
+        postStatsRepository.increaseViews(List.of(postId), 1);
+        postStatsMigration.migrate();
+        assertThat(postStatsRepository.findViewsByPostId(postId)).contains(8);
+    }
+
+    private boolean hasViewCountColumn() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS " +
+                "WHERE UPPER(TABLE_NAME) = 'POSTS' AND UPPER(COLUMN_NAME) = 'VIEW_COUNT'", Integer.class);
+        return count != null && count > 0;
+    }
+
+    private Long savePost() {
+        Long postId = postRepository.save(PostEntity.builder()
+                        .userId(1L)
+                        .boardId(1L)
+                        .title("[TEST] PostStatsMigrationTest")
+                        .content("migration")
+                        .build())
+                .getId();
+        postIds.add(postId);
+        return postId;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.community.search;
+
+import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.post.PostDto;
+import com.example.community.domain.user.UserEntity;
+import com.example.community.domain.user.UserRole;
+import com.example.community.persistence.UserRepository;
+import com.example.community.service.CommentService;
+import com.example.community.service.PostService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Slf4j
+@Transactional
+class CommentSearchIndexTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentSearchIndex commentSearchIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long createPost(Long boardId, Long userId) {
+        return postService.create(boardId,
+                PostDto.builder()
+                        .title("[TEST] CommentSearchIndexTest")
+                        .content("내용")
+                        .postType((short) 0)
+                        .fixed((short) 0)
+                        .build(),
+                userId);
+    }
+
+    private Long createComment(Long postId, Long userId, String content) {
+        return commentService.create(CommentDto.builder()
+                        .postId(postId)
+                        .content(content)
+                        .build(), userId)
+                .orElseThrow()
+                .getId();
+    }
+
+    @Test
+    void testSearchCommentContent() {
+        String uniq = "댓글검색" + System.nanoTime();
+
+        Long postId = createPost(1L, 1L);
+        Long otherBoardPostId = createPost(2L, 1L);
+        createComment(postId, 1L, uniq + " 댓글입니다");
+        createComment(otherBoardPostId, 1L, uniq + " 다른 게시판");
+
+        Page<PostDto> result = postService.searchPosts("commentContent", uniq, PageRequest.of(0, 10));
+        assertThat(result.getContent()).extracting(PostDto::getId).contains(postId, otherBoardPostId);
+
+        // 게시판 내 검색
+        Page<PostDto> inBoard = postService.searchPostsInBoard(1L, "commentContent", uniq, PageRequest.of(0, 10));
+        assertThat(inBoard.getContent()).extracting(PostDto::getId)
+                .contains(postId)
+                .doesNotContain(otherBoardPostId);
+    }
+
+    @Test
+    void testSearchCommentWriter() {
+        long uniq = System.nanoTime();
+
+        UserEntity commenter = userRepository.saveAndFlush(UserEntity.builder()
+                .username("commenter_" + uniq)
+                .password("pw")
+                .name("COMMENTER")
+                .nickname("cw_" + uniq)
+                .email("commenter_" + uniq + "@example.com")
+                .role(UserRole.USER)
+                .build());
+
+        Long postId = createPost(1L, 1L);
+        Long commentId = createComment(postId, commenter.getId(), "작성자 검색");
+
+        Page<PostDto> result = postService.searchPosts("commentWriter", "cw_" + uniq, PageRequest.of(0, 10));
+        assertThat(result.getContent()).extracting(PostDto::getId).containsExactly(postId);
+
+        // 댓글 삭제 후에는 검색되지 않음
+        assertTrue(commentService.delete(commentId, commenter.getId()));
+        assertThat(commentSearchIndex.searchByAuthors(List.of(commenter.getId()), null)).isEmpty();
+    }
+
+    @Test
+    void testRemovePost() {
+        String uniq = "게시글삭제" + System.nanoTime();
+
+        Long postId = createPost(1L, 1L);
+        Long otherPostId = createPost(1L, 1L);
+        createComment(postId, 1L, uniq);
+        createComment(otherPostId, 1L, uniq);
+
+        assertThat(commentSearchIndex.searchContent(uniq, null)).containsExactlyInAnyOrder(postId, otherPostId);
+
+        // 삭제한 게시글의 댓글만 빠진다
+        assertTrue(postService.delete(postId, 1L));
+        assertThat(commentSearchIndex.searchContent(uniq, null)).containsExactly(otherPostId);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.community.search;
+
+import com.example.community.domain.post.PostDto;
+import com.example.community.service.PostService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Slf4j
+@Transactional
+class PostSearchIndexTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private NGramTokenizer tokenizer;
+
+    private Long createPost(Long boardId, String title, String content) {
+        return postService.create(boardId,
+                PostDto.builder()
+                        .title(title)
+                        .content(content)
+                        .postType((short) 0)
+                        .fixed((short) 0)
+                        .build(),
+                1L);
+    }
+
+    @Test
+    void testTokenize() {
+        // 한글은 글자 단위 bigram, 공백/기호 기준으로 덩어리 분리
+        assertThat(tokenizer.tokenizeQuery("검색어 테스트!")).containsExactly("검색", "색어", "테스", "스트");
+        assertThat(tokenizer.tokenizeQuery("Spring")).contains("sp", "ng");
+        // 1글자 검색어는 색인으로 처리하지 않음
+        assertThat(tokenizer.tokenizeQuery("글")).isEmpty();
+    }
+
+    @Test
+    void testSearch_partialKorean() {
+        String uniq = "색인테스트" + System.nanoTime();
+
+        Long inTitle = createPost(1L, "[TEST] " + uniq + " 제목", "내용");
+        Long inContent = createPost(1L, "[TEST] 제목", uniq + " 본문입니다");
+
+        // 단어 중간부터 검색해도 찾음
+        List<Long> result = postSearchIndex.search(SearchField.TITLE_CONTENT, uniq.substring(2), null);
+
+        assertThat(result).contains(inTitle, inContent);
+        // 제목 일치가 더 높은 점수
+        assertThat(result.indexOf(inTitle)).isLessThan(result.indexOf(inContent));
+
+        assertThat(postSearchIndex.search(SearchField.TITLE, uniq, null)).contains(inTitle).doesNotContain(inContent);
+        assertThat(postSearchIndex.search(SearchField.CONTENT, uniq, null)).contains(inContent).doesNotContain(inTitle);
+    }
+
+    @Test
+    void testSearch_requiresContiguousKeyword() {
+        // 검색어의 bigram(가나, 나다)이 모두 있지만 떨어져 있는 게시글은 LIKE 검색처럼 제외
+        Long scattered = createPost(1L, "[TEST] 가나 그리고 나다", "가나 나다");
+        Long matched = createPost(1L, "[TEST] 가나다 제목", "내용");
+
+        assertThat(postSearchIndex.search(SearchField.TITLE, "가나다", null))
+                .contains(matched)
+                .doesNotContain(scattered);
+        assertThat(postSearchIndex.search(SearchField.TITLE_CONTENT, "가나다", null))
+                .doesNotContain(scattered);
+        // 대소문자/연속 공백 차이는 같은 검색어로 본다
+        assertThat(postSearchIndex.search(SearchField.TITLE, "가나다  제목", null)).contains(matched);
+    }
+
+    @Test
+    void testSearch_boardFilterAndDelete() {
+        String uniq = "게시판필터" + System.nanoTime();
+
+        Long board1Post = createPost(1L, "[TEST] " + uniq, "내용");
+        Long board2Post = createPost(2L, "[TEST] " + uniq, "내용");
+
+        assertThat(postSearchIndex.search(SearchField.TITLE, uniq, 1L))
+                .contains(board1Post)
+                .doesNotContain(board2Post);
+
+        // 삭제하면 검색되지 않음
+        assertTrue(postService.delete(board1Post, 1L));
+        assertThat(postSearchIndex.search(SearchField.TITLE, uniq, null)).doesNotContain(board1Post);
+    }
+
+    @Test
+    void testSearchPosts_servedFromIndex() {
+        String uniq = "페이지검색" + System.nanoTime();
+
+        for (int i = 0; i < 3; i++) {
+            createPost(1L, "[TEST] " + uniq + " " + i, "내용");
+        }
+
+        Page<PostDto> page = postService.searchPosts("title", uniq, PageRequest.of(0, 2));
+
+        log.info("검색 결과 = {}", page.getContent());
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getContent()).allMatch(post -> post.getTitle().contains(uniq));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.community.service;
 
 import com.example.community.domain.board.BoardDto;
+import com.example.community.persistence.BoardStatsRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +20,9 @@ public class BoardServiceTest {
     @Autowired
     private BoardService boardService;
 
+    @Autowired
+    private BoardStatsRepository boardStatsRepository;
+
     @Test
     public void testCreate() {
 
@@ -67,11 +71,14 @@ public class BoardServiceTest {
         BoardDto dto = BoardDto.builder().title("서비스 삭제 테스트").build();
         boardService.create(dto);
         Long id = dto.getId();
+        assertThat(boardStatsRepository.findById(id)).isPresent();
 
         boolean isDeleted = boardService.delete(id);
 
         assertThat(isDeleted).isTrue();
         assertThat(boardService.read(id)).isEmpty();
+        // 게시글 수 집계 행도 함께 삭제
+        assertThat(boardStatsRepository.findById(id)).isEmpty();
         log.info("삭제 여부: {}", isDeleted);
     }
 
@@ -87,4 +94,30 @@ public class BoardServiceTest {
         assertThat(list.size()).isGreaterThanOrEqualTo(2);
         log.info("전체 목록 개수: {}", list.size());
     }
+
+    @Test
+    public void testGetList_catalogFollowsChanges() {
+
+        BoardDto dto = BoardDto.builder().title("스냅샷 테스트").build();
+        boardService.create(dto);
+        Long id = dto.getId();
+
+        assertThat(boardService.getList()).extracting(BoardDto::getId).contains(id);
+        assertThat(boardService.getGeneralBoardList()).extracting(BoardDto::getId).contains(id);
+
+        // 수정 -> 스냅샷에 새 제목 반영
+        dto.setTitle("스냅샷 수정 테스트");
+        boardService.update(dto);
+
+        assertThat(boardService.getList())
+                .filteredOn(b -> b.getId().equals(id))
+                .extracting(BoardDto::getTitle)
+                .containsExactly("스냅샷 수정 테스트");
+
+        // 삭제 -> 스냅샷에서 제외
+        boardService.delete(id);
+
+        assertThat(boardService.getList()).extracting(BoardDto::getId).doesNotContain(id);
+        log.info("스냅샷 게시판 개수: {}", boardService.getList().size());
+    }
 }
@@ -1,16 +1,24 @@
 package com.example.community.service;
 
 import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.comment.CommentPage;
 import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostStatsEntity;
+import com.example.community.persistence.BoardStatsRepository;
 import com.example.community.persistence.CommentRepository;
 import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.PostStatsRepository;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,9 +36,21 @@ class CommentServiceTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private CommentListCache commentListCache;
+
+    @Autowired
+    private BoardStatsRepository boardStatsRepository;
+
+    @Autowired
+    private UserService userService;
+
     private Long postId;
     private final Long USER_ID = 1L;
     private final Long OTHER_USER_ID = 2L;
@@ -48,13 +68,12 @@ class CommentServiceTest {
                         .content("게시글 내용")
                         .postType((short) 0)
                         .fixed((short) 0)
-                        .viewCount(0)
-                        .commentsCount(0)
-                        .likesCount(0)
                         .build()
         );
 
         postId = post.getId();
+        // 목록 쿼리는 post_stats를 조인하므로 카운터 행도 함께 저장
+        postStatsRepository.save(PostStatsEntity.builder().postId(post.getId()).build());
     }
 
     @Test
@@ -170,6 +189,48 @@ class CommentServiceTest {
         assertThat(commentRepository.findById(created.getId())).isEmpty();
     }
 
+    @Test
+    public void testCreateAndDelete_commentsCount() {
+        CommentDto first = commentService.create(
+                CommentDto.builder().postId(postId).content("첫 댓글").build(), USER_ID).orElseThrow();
+        commentService.create(
+                CommentDto.builder().postId(postId).content("둘째 댓글").build(), OTHER_USER_ID).orElseThrow();
+
+        assertThat(postStatsRepository.findCommentsByPostId(postId).orElseThrow()).isEqualTo(2);
+
+        assertThat(commentService.delete(first.getId(), USER_ID)).isTrue();
+        assertThat(postStatsRepository.findCommentsByPostId(postId).orElseThrow()).isEqualTo(1);
+    }
+
+    // 감소가 증가보다 먼저 반영돼도(증가분이 분산 카운터에 남아 있는 경우 등) 최종 댓글 수는 같아야 함
+    @Test
+    public void testAddComments_orderIndependent() {
+        postStatsRepository.addComments(postId, -1);
+        postStatsRepository.addComments(postId, 1);
+        assertThat(postStatsRepository.findCommentsByPostId(postId)).contains(0);
+
+        // 합산 전 잠시 음수인 값은 화면에 0으로
+        postStatsRepository.addComments(postId, -1);
+        assertThat(commentService.getPage(postId, null, 10).getTotalCount()).isZero();
+    }
+
+    // 목록에 댓글 수가 보이므로 댓글 작성/삭제 시 게시판 변경 시각(목록 ETag)도 바뀌어야 함
+    @Test
+    public void testCreateAndDelete_touchesBoard() {
+        LocalDateTime old = LocalDateTime.of(2000, 1, 1, 0, 0);
+        boardStatsRepository.touch(1L, old);
+
+        CommentDto created = commentService.create(
+                CommentDto.builder().postId(postId).content("댓글").build(), USER_ID).orElseThrow();
+        assertThat(boardStatsRepository.findChangedAtByBoardId(1L)).hasValueSatisfying(
+                changedAt -> assertThat(changedAt).isAfter(old));
+
+        boardStatsRepository.touch(1L, old);
+        assertThat(commentService.delete(created.getId(), USER_ID)).isTrue();
+        assertThat(boardStatsRepository.findChangedAtByBoardId(1L)).hasValueSatisfying(
+                changedAt -> assertThat(changedAt).isAfter(old));
+    }
+
     /* =====================
        댓글 목록 조회 테스트
      ===================== */
@@ -198,4 +259,75 @@ class CommentServiceTest {
                 .extracting(CommentDto::getContent)
                 .containsExactly("안녕하세요", "반갑습니다");
     }
+
+    @Test
+    public void testGetPage_keyset() {
+        for (int i = 1; i <= 5; i++) {
+            commentService.create(CommentDto.builder().postId(postId).content("댓글 " + i).build(), USER_ID);
+        }
+
+        // 2개씩 끝까지 이어서 조회
+        CommentPage first = commentService.getPage(postId, null, 2);
+        assertThat(first.getContent()).extracting(CommentDto::getContent).containsExactly("댓글 1", "댓글 2");
+        assertThat(first.getContent()).allSatisfy(comment -> assertThat(comment.getWriter()).isNotNull());
+        assertThat(first.getTotalCount()).isEqualTo(5);
+        assertThat(first.getNextAfter()).isEqualTo(first.getContent().get(1).getId());
+
+        CommentPage second = commentService.getPage(postId, first.getNextAfter(), 2);
+        assertThat(second.getContent()).extracting(CommentDto::getContent).containsExactly("댓글 3", "댓글 4");
+
+        CommentPage last = commentService.getPage(postId, second.getNextAfter(), 2);
+        assertThat(last.getContent()).extracting(CommentDto::getContent).containsExactly("댓글 5");
+        assertThat(last.getNextAfter()).isNull();
+    }
+
+    @Test
+    public void testGetMyComments_projection() {
+        commentService.create(CommentDto.builder().postId(postId).content("내 댓글").build(), USER_ID);
+
+        // 게시글 제목 / 게시판 ID / 작성자 닉네임을 한 번의 쿼리로 채운다
+        Page<CommentDto> page = commentService.getMyComments(USER_ID,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        CommentDto mine = page.getContent().stream()
+                .filter(comment -> comment.getPostId().equals(postId))
+                .findFirst()
+                .orElseThrow();
+        assertThat(mine.getPostTitle()).isEqualTo("테스트 게시글");
+        assertThat(mine.getBoardId()).isEqualTo(1L);
+        assertThat(mine.getWriter()).isNotBlank();
+        assertThat(mine.getCommentsCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGetPage_cacheInvalidation() {
+        commentService.create(CommentDto.builder().postId(postId).content("댓글 1").build(), USER_ID);
+
+        // 같은 페이지를 다시 읽으면 캐시 적중
+        CommentPage first = commentService.getPage(postId, null, 50);
+        long hits = commentListCache.getStats().hits();
+        assertThat(commentService.getPage(postId, null, 50).getContent()).hasSize(1);
+        assertThat(commentListCache.getStats().hits()).isEqualTo(hits + 1);
+
+        // 작성하면 무효화되어 새 댓글 포함
+        commentService.create(CommentDto.builder().postId(postId).content("댓글 2").build(), OTHER_USER_ID);
+        CommentPage second = commentService.getPage(postId, null, 50);
+        assertThat(second.getContent()).extracting(CommentDto::getContent).containsExactly("댓글 1", "댓글 2");
+        assertThat(second.getTotalCount()).isEqualTo(first.getTotalCount() + 1);
+
+        // 수정 / 삭제도 무효화
+        Long secondId = second.getContent().get(1).getId();
+        commentService.update(CommentDto.builder().id(secondId).content("수정된 댓글").build(), OTHER_USER_ID);
+        assertThat(commentService.getList(postId)).extracting(CommentDto::getContent).containsExactly("댓글 1", "수정된 댓글");
+
+        commentService.delete(secondId, OTHER_USER_ID);
+        assertThat(commentService.getList(postId)).extracting(CommentDto::getContent).containsExactly("댓글 1");
+
+        // 작성자 닉네임이 바뀌면 그 회원의 댓글이 있는 게시글도 무효화
+        String nickname = "n" + System.nanoTime() % 1_000_000_000L;
+        userService.updateNickname(USER_ID, nickname);
+        assertThat(commentService.getPage(postId, null, 50).getContent())
+                .extracting(CommentDto::getWriter)
+                .containsExactly(nickname);
+    }
 }
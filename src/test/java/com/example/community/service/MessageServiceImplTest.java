@@ -1,7 +1,11 @@
 package com.example.community.service;
 
+import com.example.community.domain.message.BulkOutcome;
 import com.example.community.domain.message.MessageDto;
+import com.example.community.domain.message.UserMessageCounterEntity;
 import com.example.community.domain.user.UserEntity;
+import com.example.community.persistence.MessageRepository;
+import com.example.community.persistence.UserMessageCounterRepository;
 import com.example.community.persistence.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +17,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -27,6 +34,12 @@ class MessageServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserMessageCounterRepository counterRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
     private UserEntity sender;
     private UserEntity receiver;
 
@@ -136,4 +149,91 @@ class MessageServiceTest {
         });
         log.info("예외 처리 정상 작동 확인");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("쪽지 발송/읽음/휴지통 이동 시 쪽지함 개수 집계 갱신")
+    void messageCounterTest() {
+        MessageDto dto = MessageDto.builder()
+                .receiverNickname(receiver.getNickname()).title("개수테스트").content("내용")
+                .build();
+        messageService.sendMessage(dto, sender.getUsername());
+
+        // 발송 직후 수신자의 안 읽은 쪽지 1
+        assertThat(messageService.getUnreadCount(receiver.getId())).isEqualTo(1);
+        Long msgId = messageService.getMessages("received", receiver.getUsername(), PageRequest.of(0, 10))
+                .getContent().get(0).getId();
+
+        // 읽음 처리 후 0
+        messageService.getMessageDetail(msgId, receiver.getUsername());
+        assertThat(messageService.getUnreadCount(receiver.getId())).isZero();
+
+        // 수신자가 휴지통으로 이동
+        messageService.moveToTrash(msgId, receiver.getUsername(), "received");
+
+        UserMessageCounterEntity receiverCounter = counterRepository.findById(receiver.getId()).orElseThrow();
+        assertThat(receiverCounter.getUnread()).isZero();
+        assertThat(receiverCounter.getInbox()).isZero();
+        assertThat(receiverCounter.getTrash()).isEqualTo(1);
+
+        UserMessageCounterEntity senderCounter = counterRepository.findById(sender.getId()).orElseThrow();
+        assertThat(senderCounter.getSent()).isEqualTo(1);
+        assertThat(senderCounter.getTrash()).isZero();
+    }
+
+    @Test
+    @DisplayName("목록은 프로젝션(상대방 닉네임)으로, 전체 건수는 집계 행으로 조회")
+    void messageListProjectionTest() {
+        MessageDto dto = MessageDto.builder()
+                .receiverNickname(receiver.getNickname()).title("목록테스트").content("목록에는 안 보이는 본문")
+                .build();
+        messageService.sendMessage(dto, sender.getUsername());
+
+        Page<MessageDto> received = messageService.getMessages("received", receiver.getUsername(), PageRequest.of(0, 10));
+        assertThat(received.getTotalElements()).isEqualTo(1);
+
+        MessageDto item = received.getContent().get(0);
+        assertThat(item.getType()).isEqualTo("RECEIVED");
+        assertThat(item.getDisplayNickname()).isEqualTo(sender.getNickname());
+        assertThat(item.getContent()).isNull();
+
+        Page<MessageDto> sent = messageService.getMessages("sent", sender.getUsername(), PageRequest.of(0, 10));
+        assertThat(sent.getTotalElements()).isEqualTo(1);
+        assertThat(sent.getContent().get(0).getDisplayNickname()).isEqualTo(receiver.getNickname());
+    }
+
+    @Test
+    @DisplayName("선택한 쪽지 일괄 휴지통 이동/영구 삭제 - 쪽지 ID별 결과와 개수 집계")
+    void bulkTrashAndDeleteTest() {
+        for (String title : List.of("일괄1", "일괄2")) {
+            messageService.sendMessage(MessageDto.builder()
+                    .receiverNickname(receiver.getNickname()).title(title).content("내용")
+                    .build(), sender.getUsername());
+        }
+        List<Long> ids = messageService.getMessages("received", receiver.getUsername(), PageRequest.of(0, 10))
+                .getContent().stream().map(MessageDto::getId).toList();
+        assertThat(messageService.getUnreadCount(receiver.getId())).isEqualTo(2);
+
+        // 수신자가 두 통 + 없는 쪽지를 휴지통으로
+        Long unknownId = Long.MAX_VALUE;
+        Map<Long, BulkOutcome> trashed = messageService.moveToTrashBulk(
+                List.of(ids.get(0), ids.get(1), unknownId), receiver.getUsername(), "received");
+        assertThat(trashed).containsEntry(ids.get(0), BulkOutcome.DONE)
+                .containsEntry(ids.get(1), BulkOutcome.DONE)
+                .containsEntry(unknownId, BulkOutcome.NOT_FOUND);
+        assertThat(messageService.getUnreadCount(receiver.getId())).isZero();
+        assertThat(messageService.getMessages("trash", receiver.getUsername(), PageRequest.of(0, 10))
+                .getTotalElements()).isEqualTo(2);
+
+        // 이미 휴지통에 있으면 SKIPPED
+        assertThat(messageService.moveToTrashBulk(ids, receiver.getUsername(), "received"))
+                .containsValues(BulkOutcome.SKIPPED);
+
+        // 양측 모두 영구 삭제하면 DB에서 삭제
+        messageService.permanentDeleteBulk(ids, receiver.getUsername(), "received");
+        Map<Long, BulkOutcome> deleted = messageService.permanentDeleteBulk(ids, sender.getUsername(), "sent");
+        assertThat(deleted.values()).containsOnly(BulkOutcome.DONE);
+        assertThat(messageRepository.findAllById(ids)).isEmpty();
+        assertThat(messageService.getMessages("sent", sender.getUsername(), PageRequest.of(0, 10))
+                .getTotalElements()).isZero();
+    }
+}
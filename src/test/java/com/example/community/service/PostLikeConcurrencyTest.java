@@ -0,0 +1,186 @@
+package com.example.community.service;
+
+import com.example.community.domain.post.PostCounter;
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostStatsEntity;
+import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.PostStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 토글 동시성 테스트
+ * 여러 스레드가 실제로 커밋해야 하므로 @Transactional 없이 실행하고 끝나면 직접 정리한다
+ */
+@SpringBootTest
+@Slf4j
+class PostLikeConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final long USER_ID_BASE = 1_000_000L;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
+    @Autowired
+    private PostCounterStore postCounterStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postRepository.save(PostEntity.builder()
+                        .userId(1L)
+                        .boardId(1L)
+                        .title("좋아요 동시성 테스트")
+                        .content("좋아요 동시성 테스트 내용")
+                        .build())
+                .getId();
+        postStatsRepository.save(PostStatsEntity.builder().postId(postId).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM post_likes WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM post_counter_shards WHERE post_id = ?", postId);
+        postStatsRepository.deleteByPostId(postId);
+        postRepository.deleteById(postId);
+    }
+
+    @Test
+    public void testToggleLike_distinctUsers_exactCount() throws InterruptedException {
+        int users = 1000;
+
+        // 1) 서로 다른 회원이 동시에 좋아요 -> 정확히 회원 수만큼 증가
+        List<Throwable> errors = runInParallel(users, i -> postService.toggleLike(postId, USER_ID_BASE + i));
+        assertThat(errors).isEmpty();
+        assertThat(likesCount()).isEqualTo(users);
+        assertThat(likeRows()).isEqualTo(users);
+
+        // 2) 같은 회원들이 동시에 좋아요 취소 -> 0
+        errors = runInParallel(users, i -> postService.toggleLike(postId, USER_ID_BASE + i));
+        assertThat(errors).isEmpty();
+        assertThat(likesCount()).isZero();
+        assertThat(likeRows()).isZero();
+    }
+
+    @Test
+    public void testToggleLike_sameUsersRepeatedly_countMatchesRows() throws InterruptedException {
+        int users = 50;
+        int toggles = 3000;
+
+        // 같은 회원이 동시에 여러 번 눌러도(더블 클릭) 좋아요 수는 post_likes 행 수와 같아야 한다
+        List<Throwable> errors = runInParallel(toggles, i -> postService.toggleLike(postId, USER_ID_BASE + (i % users)));
+        assertThat(errors).isEmpty();
+
+        int likesCount = likesCount();
+        log.info("likesCount={}, rows={}", likesCount, likeRows());
+        assertThat(likesCount).isEqualTo(likeRows());
+        assertThat(likesCount).isBetween(0, users);
+    }
+
+    private int likesCount() {
+        // 쓰기가 몰려 분산 카운터에 쌓인 증감량까지 posts에 합산
+        postCounterStore.fold();
+        return postStatsRepository.findLikesByPostId(postId).orElseThrow();
+    }
+
+    @Test
+    public void testToggleLike_hotPost_usesShardedCounter() {
+        int users = 100;
+
+        // 짧은 시간에 좋아요가 몰리면 분산 카운터로 전환
+        Integer lastCount = null;
+        for (int i = 0; i < users; i++) {
+            lastCount = (Integer) postService.toggleLike(postId, USER_ID_BASE + i).get("likesCount");
+        }
+
+        assertThat(postCounterStore.isHot(postId)).isTrue();
+        // 합산 전에도 응답/상세 조회 값은 정확해야 한다
+        assertThat(lastCount).isEqualTo(users);
+        assertThat(postService.read(postId).getLikesCount()).isEqualTo(users);
+
+        // 합산 후 posts 값도 정확
+        assertThat(likesCount()).isEqualTo(users);
+        assertThat(postCounterStore.getPending(postId, PostCounter.LIKES)).isZero();
+    }
+
+    @Test
+    public void testGetPending_coldPostLeftoverShard() {
+        // 재기동 직후처럼 분산 카운터 사용 기록이 없어도 합산 전 증감량은 보여야 한다
+        assertThat(postCounterStore.isHot(postId)).isFalse();
+        jdbcTemplate.update("INSERT INTO post_counter_shards (post_id, counter, shard, amount) VALUES (?, 'LIKES', 0, 3)", postId);
+
+        assertThat(postCounterStore.getPending(postId, PostCounter.LIKES)).isEqualTo(3);
+        assertThat(postService.read(postId).getLikesCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testFold_coldPostLeftoverShard() {
+        // 분산 카운터를 그만 쓴 뒤에 커밋된 증감량도 다음 합산에서 posts에 반영되고 샤드 행은 정리된다
+        assertThat(postCounterStore.isHot(postId)).isFalse();
+        jdbcTemplate.update("INSERT INTO post_counter_shards (post_id, counter, shard, amount) VALUES (?, 'LIKES', 0, 3)", postId);
+
+        assertThat(likesCount()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_counter_shards WHERE post_id = ?",
+                Integer.class, postId)).isZero();
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_likes WHERE post_id = ?", Integer.class, postId);
+    }
+
+    private List<Throwable> runInParallel(int tasks, IntTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run(index);
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        errors.forEach(e -> log.warn("toggle failed: {}", e.toString()));
+        return new ArrayList<>(errors);
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int index) throws Exception;
+    }
+}
@@ -1,9 +1,17 @@
 package com.example.community.service;
 
+import com.example.community.domain.post.KeysetPage;
 import com.example.community.domain.post.PostDto;
 import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostStatsEntity;
+import com.example.community.domain.post.PostSummary;
+import com.example.community.domain.user.UserEntity;
+import com.example.community.domain.user.UserRole;
+import com.example.community.persistence.BoardStatsRepository;
 import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.PostStatsRepository;
 import com.example.community.persistence.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
@@ -13,6 +21,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,9 +38,24 @@ class PostServiceTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private BoardStatsRepository boardStatsRepository;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    @Autowired
+    private PopularPostRanking popularPostRanking;
+
     private PostEntity anyPost() {
         return postRepository.findAll(PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "id")))
                 .getContent()
@@ -80,14 +107,18 @@ class PostServiceTest {
 
         Long postId = postService.create(boardId, createDto, userId);
 
-        int before = postRepository.findById(postId).orElseThrow().getViewCount();
+        int before = postStatsRepository.findViewsByPostId(postId).orElseThrow();
 
         PostDto postDto = postService.read(postId);
 
         assertNotNull(postDto);
         log.info("postDto = {}", postDto);
+        assertThat(postDto.getViewCount()).isEqualTo(before + 1);
 
-        int after = postRepository.findById(postId).orElseThrow().getViewCount();
+        // 조회수 버퍼 반영 후 DB 확인
+        viewCountBuffer.flush();
+
+        int after = postStatsRepository.findViewsByPostId(postId).orElseThrow();
         assertThat(after).isEqualTo(before + 1);
     }
 
@@ -257,7 +288,9 @@ class PostServiceTest {
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).isNotEmpty();
-        assertThat(result.getContent()).anyMatch(post -> post.getContent().contains(keyword));
+        // 목록 결과에는 본문 대신 앞부분(excerpt)만 담긴다
+        assertThat(result.getContent()).allMatch(post -> post.getContent() == null);
+        assertThat(result.getContent()).anyMatch(post -> post.getExcerpt().contains(keyword));
     }
 
     @Test
@@ -323,11 +356,7 @@ class PostServiceTest {
                         .fixed((short) 0)
                         .build(),
                 userId);
-        PostEntity entity1 = postRepository.findById(postId1).orElseThrow();
-        for (int i = 0; i < 100; i++) {
-            entity1.increaseViewCount();
-        }
-        postRepository.save(entity1);
+        postStatsRepository.increaseViews(List.of(postId1), 100);
 
         // 조회수 50
         Long postId2 = postService.create(boardId,
@@ -338,11 +367,7 @@ class PostServiceTest {
                         .fixed((short) 0)
                         .build(),
                 userId);
-        PostEntity entity2 = postRepository.findById(postId2).orElseThrow();
-        for (int i = 0; i < 50; i++) {
-            entity2.increaseViewCount();
-        }
-        postRepository.save(entity2);
+        postStatsRepository.increaseViews(List.of(postId2), 50);
 
         // 인기 게시글 TOP 10 조회
         var pageable = PageRequest.of(0, 10);
@@ -364,4 +389,315 @@ class PostServiceTest {
                     result.getContent().get(i).getViewCount());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetPopularPosts_ranking() {
+        // 조회수가 가장 높은 게시글 생성 후 조회 -> 랭킹 1위
+        Long userId = 1L;
+
+        PostEntity saved = postRepository.saveAndFlush(PostEntity.builder()
+                .boardId(1L)
+                .userId(userId)
+                .title("[TEST] PostServiceTest#testGetPopularPosts_ranking")
+                .content("ranking")
+                .postType((short) 0)
+                .fixed((short) 0)
+                .build());
+        postStatsRepository.saveAndFlush(PostStatsEntity.builder()
+                .postId(saved.getId())
+                .views(1_000_000_000)
+                .build());
+
+        postService.read(saved.getId());
+
+        List<PostDto> top = postService.getPopularPosts(PageRequest.of(0, 10)).getContent();
+        assertThat(top).isNotEmpty();
+        assertThat(top.get(0).getId()).isEqualTo(saved.getId());
+        assertThat(top.get(0).getViewCount()).isGreaterThan(1_000_000_000);
+
+        // 삭제하면 랭킹에서 제외
+        assertTrue(postService.delete(saved.getId(), userId));
+
+        List<PostDto> afterDelete = postService.getPopularPosts(PageRequest.of(0, 10)).getContent();
+        assertThat(afterDelete).extracting(PostDto::getId).doesNotContain(saved.getId());
+    }
+
+    @Test
+    public void testGetPopularPosts_singleRefill() {
+        postService.getPopularPosts(PageRequest.of(0, 10));
+        List<PostDto> before = popularPostRanking.getTop(PopularPostRanking.CAPACITY);
+
+        // 다른 요청이 다시 채우는 중이면 기존 랭킹을 그대로 응답 (같은 조회를 중복 실행하지 않음)
+        popularPostRanking.markStale();
+        assertTrue(popularPostRanking.tryStartRefill());
+        assertFalse(popularPostRanking.tryStartRefill());
+        assertThat(postService.getPopularPosts(PageRequest.of(0, 10)).getContent())
+                .isEqualTo(before.subList(0, Math.min(10, before.size())));
+
+        // 채우기에 실패하면 다음 조회 때 다시 채운다
+        popularPostRanking.finishRefill(false);
+        assertTrue(popularPostRanking.isStale());
+        postService.getPopularPosts(PageRequest.of(0, 10));
+        assertFalse(popularPostRanking.isStale());
+    }
+
+    @Test
+    public void testGetList_excerptWithoutContent() {
+        // 본문이 긴 게시글 -> 목록에는 앞부분만
+        Long boardId = 1L;
+        String content = "첫 줄\n\n둘째   줄 " + "가".repeat(500);
+
+        Long postId = postService.create(boardId,
+                PostDto.builder()
+                        .title("[TEST] PostServiceTest#testGetList_excerptWithoutContent")
+                        .content(content)
+                        .postType((short) 0)
+                        // 고정글로 만들어 첫 페이지 맨 위에 오도록
+                        .fixed((short) 1)
+                        .build(),
+                1L);
+
+        var pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "fixed")
+                .and(Sort.by(Sort.Direction.DESC, "id")));
+        PostDto listed = postService.getList(boardId, pageable).getContent().stream()
+                .filter(post -> post.getId().equals(postId))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(listed.getContent()).isNull();
+        assertThat(listed.getExcerpt()).startsWith("첫 줄 둘째 줄 가");
+        assertThat(listed.getExcerpt()).hasSize(PostEntity.EXCERPT_LENGTH);
+
+        // 상세 조회는 본문 전체
+        assertThat(postService.read(postId).getContent()).isEqualTo(content);
+    }
+
+    @Test
+    public void testExcerptOf_keepsSurrogatePairs() {
+        // EXCERPT_LENGTH 경계에 걸친 이모지(서로게이트 쌍)는 반으로 자르지 않고 뺀다
+        String content = "가".repeat(PostEntity.EXCERPT_LENGTH - 1) + "😀" + "나";
+        String excerpt = PostEntity.excerptOf(content);
+
+        assertThat(excerpt).isEqualTo("가".repeat(PostEntity.EXCERPT_LENGTH - 1));
+        assertFalse(Character.isHighSurrogate(excerpt.charAt(excerpt.length() - 1)));
+    }
+
+    @Test
+    public void testGetList_writerNicknames() {
+        // 작성자가 다른 게시글 2개 생성
+        Long boardId = 1L;
+        long uniq = System.nanoTime();
+
+        UserEntity writer1 = userRepository.saveAndFlush(UserEntity.builder()
+                .username("writer1_" + uniq)
+                .password("pw")
+                .name("WRITER")
+                .nickname("w1_" + uniq)
+                .email("writer1_" + uniq + "@example.com")
+                .role(UserRole.USER)
+                .build());
+        UserEntity writer2 = userRepository.saveAndFlush(UserEntity.builder()
+                .username("writer2_" + uniq)
+                .password("pw")
+                .name("WRITER")
+                .nickname("w2_" + uniq)
+                .email("writer2_" + uniq + "@example.com")
+                .role(UserRole.USER)
+                .build());
+
+        postService.create(boardId,
+                PostDto.builder().title("[TEST] writer1").content("c").postType((short) 0).fixed((short) 0).build(),
+                writer1.getId());
+        postService.create(boardId,
+                PostDto.builder().title("[TEST] writer2").content("c").postType((short) 0).fixed((short) 0).build(),
+                writer2.getId());
+
+        // 최신 2건 조회
+        var pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"));
+        Page<PostDto> result = postService.getList(boardId, pageable);
+
+        // 작성자별 닉네임이 각각 채워져야 함
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getContent().get(0).getWriter()).isEqualTo(writer2.getNickname());
+        assertThat(result.getContent().get(1).getWriter()).isEqualTo(writer1.getNickname());
+    }
+
+    @Test
+    public void testGetListByCursor() {
+        // 다른 테스트 데이터와 섞이지 않도록 별도 게시판 ID 사용
+        Long boardId = 900_000_000L + (System.nanoTime() % 1_000_000L);
+        Long userId = 1L;
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(postService.create(boardId,
+                    PostDto.builder().title("[TEST] cursor " + i).content("c").postType((short) 0).fixed((short) 0).build(),
+                    userId));
+        }
+
+        // 첫 페이지: 최신 2건, 이전 커서 없음
+        KeysetPage<PostDto> page1 = postService.getListByCursor(boardId, null, null, 2);
+        assertThat(page1.getContent()).extracting(PostDto::getId).containsExactly(ids.get(4), ids.get(3));
+        assertThat(page1.getPrevCursor()).isNull();
+        assertThat(page1.getNextCursor()).isNotNull();
+
+        // 두 번째 페이지
+        KeysetPage<PostDto> page2 = postService.getListByCursor(boardId, page1.getNextCursor(), null, 2);
+        assertThat(page2.getContent()).extracting(PostDto::getId).containsExactly(ids.get(2), ids.get(1));
+        assertThat(page2.getPrevCursor()).isNotNull();
+        assertThat(page2.getNextCursor()).isNotNull();
+
+        // 마지막 페이지: 다음 커서 없음
+        KeysetPage<PostDto> page3 = postService.getListByCursor(boardId, page2.getNextCursor(), null, 2);
+        assertThat(page3.getContent()).extracting(PostDto::getId).containsExactly(ids.get(0));
+        assertThat(page3.getNextCursor()).isNull();
+
+        // 이전 페이지로 돌아가면 두 번째 페이지와 같아야 함
+        KeysetPage<PostDto> back = postService.getListByCursor(boardId, null, page3.getPrevCursor(), 2);
+        assertThat(back.getContent()).extracting(PostDto::getId).containsExactly(ids.get(2), ids.get(1));
+    }
+
+    @Test
+    public void testGetFeedByCursor() {
+        // 공지 게시판 역할의 별도 게시판 ID
+        Long noticeBoardId = 900_000_000L + (System.nanoTime() % 1_000_000L);
+        Long userId = 1L;
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(postService.create(1L,
+                    PostDto.builder().title("[TEST] feed " + i).content("c").postType((short) 0).fixed((short) 0).build(),
+                    userId));
+        }
+        Long noticeId = postService.create(noticeBoardId,
+                PostDto.builder().title("[TEST] feed notice").content("c").postType((short) 0).fixed((short) 0).build(),
+                userId);
+
+        // 조회수 많은 순 (기존 데이터보다 크게), 조회수가 같으면 id 역순
+        // 가장 조회수가 많은 글은 공지 -> 피드에서 제외되어도 페이지가 덜 차지 않아야 함
+        postStatsRepository.increaseViews(List.of(noticeId), 2_000_000_040);
+        postStatsRepository.increaseViews(List.of(ids.get(0)), 2_000_000_030);
+        postStatsRepository.increaseViews(List.of(ids.get(1), ids.get(2)), 2_000_000_020);
+
+        KeysetPage<PostDto> page1 = postService.getFeedByCursor(null, null, 2, noticeBoardId);
+        assertThat(page1.getContent()).extracting(PostDto::getId).containsExactly(ids.get(0), ids.get(2));
+
+        // OFFSET 페이징도 같은 순서
+        Page<PostDto> offsetPage = postService.getFeed(PageRequest.of(0, 2, PostSummary.BY_VIEWS), noticeBoardId);
+        assertThat(offsetPage.getContent()).extracting(PostDto::getId).containsExactly(ids.get(0), ids.get(2));
+
+        // 다음 페이지는 (조회수, id) 커서 이후부터
+        KeysetPage<PostDto> page2 = postService.getFeedByCursor(page1.getNextCursor(), null, 2, noticeBoardId);
+        assertThat(page2.getContent()).extracting(PostDto::getId).startsWith(ids.get(1));
+        assertThat(page2.getContent()).extracting(PostDto::getBoardId).doesNotContain(noticeBoardId);
+
+        // 이전 페이지로 돌아가도 같은 목록
+        KeysetPage<PostDto> back = postService.getFeedByCursor(null, page2.getPrevCursor(), 2, noticeBoardId);
+        assertThat(back.getContent()).extracting(PostDto::getId).containsExactly(ids.get(0), ids.get(2));
+    }
+
+    @Test
+    public void testBoardStats_createAndDelete() {
+        Long boardId = 1L;
+        Long userId = 1L;
+
+        // 첫 작성으로 집계 행 보장
+        postService.create(boardId,
+                PostDto.builder().title("[TEST] stats 1").content("c").postType((short) 0).fixed((short) 0).build(),
+                userId);
+        long before = boardStatsRepository.findById(boardId).orElseThrow().getPostCount();
+
+        // 작성 시 +1
+        Long postId = postService.create(boardId,
+                PostDto.builder().title("[TEST] stats 2").content("c").postType((short) 0).fixed((short) 0).build(),
+                userId);
+        assertThat(boardStatsRepository.findById(boardId).orElseThrow().getPostCount()).isEqualTo(before + 1);
+
+        // 목록 전체 건수는 집계값 사용
+        Page<PostDto> page = postService.getList(boardId, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+        assertThat(page.getTotalElements()).isEqualTo(before + 1);
+
+        // 삭제 시 -1
+        postService.delete(postId, userId);
+        assertThat(boardStatsRepository.findById(boardId).orElseThrow().getPostCount()).isEqualTo(before);
+    }
+
+    @Test
+    public void testPostStats_countersDoNotTouchPostRow() {
+        Long userId = 1L;
+        Long postId = postService.create(1L,
+                PostDto.builder().title("[TEST] post_stats").content("c").postType((short) 0).fixed((short) 0).build(),
+                userId);
+
+        // 작성 시 post_stats 행도 함께 생성
+        assertThat(postStatsRepository.findById(postId)).isPresent();
+
+        // 좋아요 / 조회수 변경은 post_stats만 갱신
+        postService.toggleLike(postId, userId);
+        LocalDateTime updatedAt = postRepository.findById(postId).orElseThrow().getUpdatedAt();
+
+        postService.toggleLike(postId, 2L);
+        postStatsRepository.increaseViews(List.of(postId), 3);
+
+        assertThat(postStatsRepository.findLikesByPostId(postId)).contains(2);
+        assertThat(postStatsRepository.findViewsByPostId(postId)).contains(3);
+        assertThat(postRepository.findById(postId).orElseThrow().getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    public void testGetLikedPostIds() {
+        Long userId = 1L;
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(postService.create(1L,
+                    PostDto.builder().title("[TEST] liked " + i).content("c").postType((short) 0).fixed((short) 0).build(),
+                    userId));
+        }
+
+        postService.toggleLike(ids.get(0), userId);
+        postService.toggleLike(ids.get(2), userId);
+
+        // 목록의 게시글 중 좋아요한 것만
+        assertThat(postService.getLikedPostIds(userId, ids)).containsExactlyInAnyOrder(ids.get(0), ids.get(2));
+        // 다른 회원 / 비로그인 / 빈 목록
+        assertThat(postService.getLikedPostIds(2L, ids)).isEmpty();
+        assertThat(postService.getLikedPostIds(null, ids)).isEmpty();
+        assertThat(postService.getLikedPostIds(userId, List.of())).isEmpty();
+    }
+
+    @Test
+    public void testRead_detailCache() {
+        Long userId = 1L;
+        Long postId = postService.create(1L,
+                PostDto.builder().title("[TEST] cached").content("cached content").postType((short) 0).fixed((short) 0).build(),
+                userId);
+
+        // 읽기가 몰리면 캐시에 올라가고 이후 조회는 캐시 적중
+        long hitsBefore = postDetailCache.getStats().hits();
+        int reads = 0;
+        while (postDetailCache.getStats().hits() == hitsBefore && reads < 50) {
+            postService.read(postId);
+            reads++;
+        }
+        assertThat(postDetailCache.getStats().hits()).isGreaterThan(hitsBefore);
+
+        // 캐시 적중이어도 조회수는 그대로 누적
+        PostDto cached = postService.read(postId);
+        reads++;
+        assertThat(cached.getTitle()).isEqualTo("[TEST] cached");
+        assertThat(cached.getViewCount()).isEqualTo(reads);
+
+        // 수정하면 무효화되어 새 제목/본문
+        postService.update(PostDto.builder().id(postId).title("[TEST] updated").content("updated content")
+                .postType((short) 0).fixed((short) 0).build(), userId);
+
+        PostDto updated = postService.read(postId);
+        assertThat(updated.getTitle()).isEqualTo("[TEST] updated");
+        assertThat(updated.getContent()).isEqualTo("updated content");
+        assertThat(updated.getViewCount()).isEqualTo(reads + 1);
+
+        // 삭제 후에는 캐시에서도 조회되지 않음
+        postService.delete(postId, userId);
+        assertThrows(EntityNotFoundException.class, () -> postService.read(postId));
+    }
+}
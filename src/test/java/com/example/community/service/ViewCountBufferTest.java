@@ -0,0 +1,104 @@
+package com.example.community.service;
+
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostStatsEntity;
+import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.PostStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 버퍼 동시성 테스트
+ * flush()가 실제로 커밋해야 하므로 @Transactional 없이 실행하고 끝나면 직접 정리한다
+ */
+@SpringBootTest
+@Slf4j
+class ViewCountBufferTest {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 20_000;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postRepository.save(PostEntity.builder()
+                        .userId(1L)
+                        .boardId(1L)
+                        .title("[TEST] ViewCountBufferTest")
+                        .content("조회수 버퍼 테스트 내용")
+                        .build())
+                .getId();
+        postStatsRepository.save(PostStatsEntity.builder().postId(postId).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        viewCountBuffer.discard(postId);
+        postStatsRepository.deleteByPostId(postId);
+        postRepository.deleteById(postId);
+    }
+
+    @Test
+    public void testFlush_concurrentIncrease_noLostViews() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicBoolean flushing = new AtomicBoolean(true);
+
+        // 조회수를 쌓는 동안 계속 반영
+        executor.submit(() -> {
+            start.await();
+            while (flushing.get()) {
+                viewCountBuffer.flush();
+            }
+            return null;
+        });
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                        viewCountBuffer.increase(postId);
+                    }
+                } finally {
+                    done.countDown();
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        flushing.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        // 남은 증가분까지 반영하면 조회수는 정확히 증가 횟수와 같아야 한다
+        viewCountBuffer.flush();
+        assertThat(viewCountBuffer.getPending(postId)).isZero();
+        assertThat(postStatsRepository.findViewsByPostId(postId)).contains(THREADS * VIEWS_PER_THREAD);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.community.web;
+
+import com.example.community.domain.post.PostDto;
+import com.example.community.service.PostService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비로그인 화면 캐시 통합 테스트 (Spring Security 필터 포함)
+ * 화면 조각은 별도 스레드에서 조회하므로 게시글은 커밋하고 테스트가 끝나면 지운다
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Slf4j
+class AnonymousPageCacheFilterTest {
+
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private AnonymousPageCache anonymousPageCache;
+
+    private final List<Long> createdPostIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        createdPostIds.forEach(id -> postService.delete(id, 1L));
+    }
+
+    private String getBody(String url) throws Exception {
+        return mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private void createPost(String title) {
+        Long id = postService.create(1L,
+                PostDto.builder()
+                        .title(title)
+                        .content("내용")
+                        .postType((short) 0)
+                        .fixed((short) 0)
+                        .build(),
+                1L);
+        createdPostIds.add(id);
+    }
+
+    private static String csrfToken(String body) {
+        Matcher matcher = CSRF_INPUT.matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    @Test
+    void testBoardList_cachedForAnonymous() throws Exception {
+        // 다른 테스트의 캐시와 섞이지 않도록 URL을 구분
+        String url = "/board/1/post/list?t=" + System.nanoTime();
+
+        long before = anonymousPageCache.getHits();
+        String first = getBody(url);
+        String second = getBody(url);
+
+        // 두 번째 요청은 캐시에서 응답
+        assertThat(anonymousPageCache.getHits()).isEqualTo(before + 1);
+
+        // CSRF 토큰은 요청마다 새로 채워진다
+        assertThat(csrfToken(second)).isNotNull().isNotEqualTo(csrfToken(first));
+        assertThat(second.replace(csrfToken(second), ""))
+                .isEqualTo(first.replace(csrfToken(first), ""));
+    }
+
+    @Test
+    void testBoardList_invalidatedOnCreate() throws Exception {
+        String url = "/board/1/post/list?t=" + System.nanoTime();
+        String title = "[TEST] 화면캐시 " + System.nanoTime();
+
+        getBody(url);
+        createPost(title);
+
+        // 글이 추가되면 게시판 목록 캐시를 버리고 다시 렌더링
+        long before = anonymousPageCache.getHits();
+        assertThat(getBody(url)).contains(title);
+        assertThat(anonymousPageCache.getHits()).isEqualTo(before);
+    }
+
+    @Test
+    void testBoardList_notCachedForLoggedInUser() throws Exception {
+        String url = "/board/1/post/list?t=" + System.nanoTime();
+
+        long before = anonymousPageCache.getHits();
+        mockMvc.perform(get(url).with(user("testuser").roles("USER"))).andExpect(status().isOk());
+        mockMvc.perform(get(url).with(user("testuser").roles("USER"))).andExpect(status().isOk());
+
+        assertThat(anonymousPageCache.getHits()).isEqualTo(before);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.community.web;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+class PageAssemblerTest {
+
+    // 커넥션 풀 4 -> 별도 스레드 조각은 동시에 2개까지
+    private final PageAssembler pageAssembler = new PageAssembler(2000, 100, 4);
+
+    @AfterEach
+    void tearDown() {
+        pageAssembler.destroy();
+    }
+
+    @Test
+    void testFragmentsRunConcurrently() {
+        // 두 조각이 서로를 기다려야 끝나므로, 순서대로 실행하면 제한 시간 안에 끝나지 않는다
+        CountDownLatch latch = new CountDownLatch(2);
+        PageAssembler.Scope page = pageAssembler.open();
+
+        PageFragment<Boolean> first = page.required("first", () -> await(latch));
+        PageFragment<Boolean> second = page.required("second", () -> await(latch));
+
+        assertThat(first.get()).isTrue();
+        assertThat(second.get()).isTrue();
+    }
+
+    @Test
+    void testMainFragment_runsOnCallerWhileOthersRun() {
+        // 본문 조각은 get()을 부른 스레드에서 실행되고, 그동안 다른 조각도 실행된다
+        CountDownLatch latch = new CountDownLatch(2);
+        PageAssembler.Scope page = pageAssembler.open();
+        Thread caller = Thread.currentThread();
+
+        PageFragment<Boolean> other = page.required("other", () -> await(latch));
+        PageFragment<Boolean> main = page.main(() -> Thread.currentThread() == caller && await(latch));
+
+        assertThat(main.get()).isTrue();
+        assertThat(other.get()).isTrue();
+    }
+
+    @Test
+    void testFragments_limitedToHalfOfPool() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        PageAssembler.Scope page = pageAssembler.open();
+
+        List<PageFragment<Boolean>> fragments = IntStream.range(0, 6)
+                .mapToObj(i -> page.required("fragment" + i, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(50);
+                    running.decrementAndGet();
+                    return true;
+                }))
+                .toList();
+
+        fragments.forEach(fragment -> assertThat(fragment.get()).isTrue());
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void testOptionalFragment_fallbackOnTimeout() {
+        PageFragment<List<String>> slow = pageAssembler.open().optional("slow", () -> {
+            sleep(1000);
+            return List.of("late");
+        }, List.of());
+
+        long start = System.nanoTime();
+        assertThat(slow.get()).isEmpty();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+    }
+
+    @Test
+    void testOptionalFragment_interruptedOnTimeout() throws InterruptedException {
+        // 제한 시간을 넘긴 조각은 fallback을 돌려준 뒤 실행 중인 작업도 인터럽트된다
+        CountDownLatch interrupted = new CountDownLatch(1);
+        PageFragment<String> slow = pageAssembler.open().optional("slow", () -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }, "fallback");
+
+        assertThat(slow.get()).isEqualTo("fallback");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testOptionalFragment_fallbackOnError() {
+        PageFragment<String> failing = pageAssembler.open().optional("failing", () -> {
+            throw new IllegalStateException("boom");
+        }, "fallback");
+
+        assertThat(failing.get()).isEqualTo("fallback");
+    }
+
+    @Test
+    void testRequiredFragment_rethrowsOriginalException() {
+        PageFragment<String> missing = pageAssembler.open().required("missing", () -> {
+            throw new EntityNotFoundException("Post not found");
+        });
+
+        assertThrows(EntityNotFoundException.class, missing::get);
+    }
+
+    @Test
+    void testRequiredFragment_failureCancelsSiblings() throws InterruptedException {
+        // 필수 조각이 실패하면 같은 화면에서 아직 실행 중인 조각은 인터럽트된다
+        CountDownLatch interrupted = new CountDownLatch(1);
+        PageAssembler.Scope page = pageAssembler.open();
+
+        page.optional("slow", () -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }, "fallback");
+        PageFragment<String> missing = page.required("missing", () -> {
+            throw new EntityNotFoundException("Post not found");
+        });
+
+        assertThrows(EntityNotFoundException.class, missing::get);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testMainFragment_failureCancelsSiblings() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        PageAssembler.Scope page = pageAssembler.open();
+
+        page.optional("slow", () -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }, "fallback");
+        PageFragment<String> main = page.main(() -> {
+            throw new EntityNotFoundException("Post not found");
+        });
+
+        assertThrows(EntityNotFoundException.class, main::get);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}